@@ -0,0 +1,87 @@
+package io.github.eggy03.papertrail.sdk.benchmark;
+
+import io.github.eggy03.papertrail.sdk.client.AuditLogRegistrationClient;
+import io.github.eggy03.papertrail.sdk.client.MessageLogContentClient;
+import io.github.eggy03.papertrail.sdk.client.MessageLogRegistrationClient;
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of the public client methods against {@link StubPaperTrailServer}.
+ * <p>
+ * Reports throughput and sampled latency (with percentiles). Run with {@code -prof gc}
+ * for allocation per operation and with {@code -t N} to add concurrent callers.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientBenchmark {
+
+    private static final String MESSAGE_ID = "1234567890123456789";
+    private static final String AUTHOR_ID = "9876543210987654321";
+    private static final String GUILD_ID = "1234567890123456789";
+    private static final String CONTENT = "The quick brown fox jumps over the lazy dog";
+
+    private StubPaperTrailServer server;
+    private MessageLogContentClient contentClient;
+    private AuditLogRegistrationClient auditClient;
+    private MessageLogRegistrationClient messageRegistrationClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new StubPaperTrailServer();
+
+        // one engine for all clients, as recommended for production use
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl());
+        contentClient = new MessageLogContentClient(engine);
+        auditClient = new AuditLogRegistrationClient(engine);
+        messageRegistrationClient = new MessageLogRegistrationClient(engine);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public boolean logMessage() {
+        return contentClient.logMessage(MESSAGE_ID, CONTENT, AUTHOR_ID);
+    }
+
+    @Benchmark
+    public Optional<MessageLogContentEntity> retrieveMessage() {
+        return contentClient.retrieveMessage(MESSAGE_ID);
+    }
+
+    @Benchmark
+    public Optional<AuditLogRegistrationEntity> getRegisteredAuditLogGuild() {
+        return auditClient.getRegisteredGuild(GUILD_ID);
+    }
+
+    @Benchmark
+    public Optional<MessageLogRegistrationEntity> getRegisteredMessageLogGuild() {
+        return messageRegistrationClient.getRegisteredGuild(GUILD_ID);
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.eggy03.papertrail.sdk.benchmark;
+
+import io.github.eggy03.papertrail.sdk.client.AuditLogRegistrationClient;
+import io.github.eggy03.papertrail.sdk.client.MessageLogContentClient;
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.vavr.control.Either;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the client layer alone, on an engine that answers every request with a canned response
+ * without touching the network.
+ * <p>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} is then the garbage each client call adds on top of
+ * the engine, which is otherwise hidden in the noise of {@link ClientBenchmark}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientOverheadBenchmark {
+
+    private static final String MESSAGE_ID = "1234567890123456789";
+    private static final String AUTHOR_ID = "9876543210987654321";
+    private static final String GUILD_ID = "1234567890123456789";
+    private static final String CONTENT = "The quick brown fox jumps over the lazy dog";
+
+    private final CannedEngine engine = new CannedEngine();
+    private final MessageLogContentClient contentClient = new MessageLogContentClient(engine);
+    private final AuditLogRegistrationClient auditClient = new AuditLogRegistrationClient(engine);
+
+    @Benchmark
+    public boolean logMessage() {
+        return contentClient.logMessage(MESSAGE_ID, CONTENT, AUTHOR_ID);
+    }
+
+    @Benchmark
+    public Optional<MessageLogContentEntity> retrieveMessage() {
+        return contentClient.retrieveMessage(MESSAGE_ID);
+    }
+
+    @Benchmark
+    public boolean deleteMessage() {
+        return contentClient.deleteMessage(MESSAGE_ID);
+    }
+
+    @Benchmark
+    public Optional<AuditLogRegistrationEntity> getRegisteredGuild() {
+        return auditClient.getRegisteredGuild(GUILD_ID);
+    }
+
+    /**
+     * Answers GET and POST with a fixed entity and everything else with a fixed error
+     */
+    private static final class CannedEngine extends HttpServiceEngine {
+
+        private static final Either<ErrorEntity, MessageLogContentEntity> MESSAGE =
+                Either.right(new MessageLogContentEntity(MESSAGE_ID, CONTENT, AUTHOR_ID));
+        private static final Either<ErrorEntity, AuditLogRegistrationEntity> REGISTRATION =
+                Either.right(new AuditLogRegistrationEntity(GUILD_ID, AUTHOR_ID));
+        private static final Either<ErrorEntity, Object> ERROR =
+                Either.left(new ErrorEntity(404, "Not Found", "not found", "2025-01-01T00:00:00Z", "/"));
+
+        private CannedEngine() {
+            super("http://127.0.0.1");
+        }
+
+        @Override
+        public <S> Either<ErrorEntity, S> makeRequest(@NotNull HttpMethod httpMethod, @NotNull String path,
+                                                      @NotNull HttpHeaders headers, @NotNull Class<S> successResponseClass) {
+            return respond(httpMethod, successResponseClass);
+        }
+
+        @Override
+        public <S> Either<ErrorEntity, S> makeRequestWithBody(@NotNull HttpMethod httpMethod, @NotNull String path,
+                                                              @NotNull HttpHeaders headers, @NotNull Object requestBody,
+                                                              @NotNull Class<S> successResponseClass) {
+            return respond(httpMethod, successResponseClass);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <S> Either<ErrorEntity, S> respond(HttpMethod httpMethod, Class<S> successResponseClass) {
+            if (httpMethod == HttpMethod.DELETE)
+                return (Either<ErrorEntity, S>) ERROR;
+            if (successResponseClass == AuditLogRegistrationEntity.class)
+                return (Either<ErrorEntity, S>) REGISTRATION;
+            return (Either<ErrorEntity, S>) MESSAGE;
+        }
+    }
+}
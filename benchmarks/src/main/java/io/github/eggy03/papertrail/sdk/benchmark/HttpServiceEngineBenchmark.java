@@ -0,0 +1,66 @@
+package io.github.eggy03.papertrail.sdk.benchmark;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link HttpServiceEngine} itself, without the client layer on top.
+ * Comparing it with {@link ClientBenchmark} isolates the overhead added by the clients.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HttpServiceEngineBenchmark {
+
+    private StubPaperTrailServer server;
+    private HttpServiceEngine engine;
+    private HttpHeaders headers;
+    private MessageLogContentEntity message;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        server = new StubPaperTrailServer();
+        engine = new HttpServiceEngine(server.baseUrl());
+        headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        message = new MessageLogContentEntity("1234567890123456789", "The quick brown fox jumps over the lazy dog", "9876543210987654321");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Either<ErrorEntity, MessageLogContentEntity> makeRequest() {
+        return engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/1234567890123456789", headers, MessageLogContentEntity.class);
+    }
+
+    @Benchmark
+    public Either<ErrorEntity, MessageLogContentEntity> makeRequestWithBody() {
+        return engine.makeRequestWithBody(HttpMethod.POST, "/api/v1/content/message", headers, message, MessageLogContentEntity.class);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.eggy03.papertrail.sdk.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for the PaperTrail API on localhost.
+ * <p>
+ * Answers every SDK endpoint with a fixed, pre-encoded JSON body so that benchmarks measure
+ * the client side of the request path rather than server work.
+ * </p>
+ */
+public final class StubPaperTrailServer implements AutoCloseable {
+
+    static final String MESSAGE_JSON =
+            "{\"messageId\":\"1234567890123456789\",\"messageContent\":\"The quick brown fox jumps over the lazy dog\",\"authorId\":\"9876543210987654321\"}";
+    static final String REGISTRATION_JSON =
+            "{\"guildId\":\"1234567890123456789\",\"channelId\":\"9876543210987654321\"}";
+
+    private static final byte[] MESSAGE_BODY = MESSAGE_JSON.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REGISTRATION_BODY = REGISTRATION_JSON.getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+    static {
+        // without TCP_NODELAY, Nagle's algorithm and delayed ACKs add ~40ms to every exchange
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    public StubPaperTrailServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/api/v1/content/message", exchange -> reply(exchange, MESSAGE_BODY));
+        server.createContext("/api/v1/log/audit", exchange -> reply(exchange, REGISTRATION_BODY));
+        server.createContext("/api/v1/log/message", exchange -> reply(exchange, REGISTRATION_BODY));
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void reply(HttpExchange exchange, byte[] body) throws IOException {
+
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        if ("DELETE".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.eggy03.papertrail.sdk.batch;
+
+/**
+ * Determines what a {@link MessageLogWriteBehindBuffer} does when its queue is full.
+ */
+public enum BackpressureStrategy {
+
+    /**
+     * The submitting thread waits until space becomes available.
+     */
+    BLOCK,
+
+    /**
+     * The oldest queued record is discarded and reported as failed to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The new record is not accepted and the submit call returns {@code false} immediately.
+     */
+    REJECT
+}
@@ -0,0 +1,44 @@
+package io.github.eggy03.papertrail.sdk.batch;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the outcome of every record accepted by a {@link MessageLogWriteBehindBuffer}.
+ * <p>
+ * Callbacks are invoked from the buffer's worker or the async engine's threads and should return quickly.
+ * </p>
+ */
+public interface MessageLogBatchCallback {
+
+    /**
+     * A callback that ignores every outcome
+     */
+    MessageLogBatchCallback NO_OP = new MessageLogBatchCallback() {
+        @Override
+        public void onSuccess(@NotNull MessageLogContentEntity message) {
+            // intentionally empty
+        }
+
+        @Override
+        public void onFailure(@NotNull MessageLogContentEntity message, @NotNull ErrorEntity error) {
+            // intentionally empty
+        }
+    };
+
+    /**
+     * Called once the message has been stored by the API.
+     *
+     * @param message the logged message
+     */
+    void onSuccess(@NotNull MessageLogContentEntity message);
+
+    /**
+     * Called when the message could not be stored or was dropped from the queue.
+     *
+     * @param message the message that was not logged
+     * @param error   the API error, or a synthetic error describing why the message was dropped
+     */
+    void onFailure(@NotNull MessageLogContentEntity message, @NotNull ErrorEntity error);
+}
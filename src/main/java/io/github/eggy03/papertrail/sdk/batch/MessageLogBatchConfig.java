@@ -0,0 +1,70 @@
+package io.github.eggy03.papertrail.sdk.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Settings of a {@link MessageLogWriteBehindBuffer}.
+ * <p>
+ * Immutable; create instances through {@code builder()}. Every setting has a default.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MessageLogBatchConfig {
+
+    /**
+     * The maximum number of records sent in one flush.
+     */
+    @Builder.Default
+    private final int maxBatchSize = 100;
+
+    /**
+     * How long the first record of a batch may wait before the batch is flushed, even if it is not full.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * The maximum number of records waiting to be flushed.
+     */
+    @Builder.Default
+    private final int queueCapacity = 10_000;
+
+    /**
+     * What happens when a record is submitted to a full queue.
+     */
+    @NonNull
+    @Builder.Default
+    private final BackpressureStrategy backpressure = BackpressureStrategy.BLOCK;
+
+    /**
+     * The bulk endpoint accepting a JSON array of messages, or {@code null} (the default) to always send single
+     * requests. The PaperTrail API has no such endpoint; set this only for a server that provides one.
+     * <p>
+     * A batch the bulk endpoint fails is sent as single requests instead, so a server that applied part of the
+     * failed batch may receive some records twice. If the API answers {@code 404},
+     * {@code 405} or {@code 501}, the buffer falls back to single requests for good.
+     * </p>
+     */
+    @Nullable
+    private final String bulkPath;
+
+    /**
+     * The maximum number of single requests in flight when no bulk endpoint is available.
+     */
+    @Builder.Default
+    private final int maxConcurrentRequests = 16;
+
+    /**
+     * Receives the outcome of each record.
+     */
+    @NonNull
+    @Builder.Default
+    private final MessageLogBatchCallback callback = MessageLogBatchCallback.NO_OP;
+}
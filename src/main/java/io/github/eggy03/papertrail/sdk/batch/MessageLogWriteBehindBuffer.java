@@ -0,0 +1,305 @@
+package io.github.eggy03.papertrail.sdk.batch;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestHeaders;
+import io.vavr.control.Either;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpMethod;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind pipeline for {@code POST /api/v1/content/message}.
+ * <p>
+ * Submitted messages are queued in a bounded queue and flushed by a single worker thread
+ * whenever the configured {@code maxBatchSize} records are waiting or the oldest
+ * record has waited for {@code flushInterval}. Each record is posted on its own, with at most
+ * {@code maxConcurrentRequests} requests in flight, unless a bulk endpoint is configured; a batch the bulk
+ * endpoint fails is posted record by record instead.
+ * The outcome of every record is reported to the configured {@link MessageLogBatchCallback}.
+ * </p>
+ * <p>
+ * {@link #close()} stops accepting messages, flushes everything still queued and waits for
+ * in-flight requests to finish.
+ * </p>
+ */
+@Slf4j
+public class MessageLogWriteBehindBuffer implements AutoCloseable {
+
+    private static final String MESSAGE_PATH = "/api/v1/content/message";
+
+    private final AsyncHttpServiceEngine asyncEngine;
+    private final MessageLogBatchConfig config;
+    private final MessageLogBatchCallback callback;
+    private final BlockingQueue<MessageLogContentEntity> queue;
+    private final Semaphore inFlight;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private volatile boolean bulkSupported;
+
+    /**
+     * Creates and starts a new {@code MessageLogWriteBehindBuffer}.
+     *
+     * @param asyncEngine the engine used to send batches (must not be {@code null})
+     * @param config      the buffer settings (must not be {@code null})
+     * @throws IllegalArgumentException if a size, capacity or concurrency setting is not positive
+     */
+    public MessageLogWriteBehindBuffer(@NonNull AsyncHttpServiceEngine asyncEngine, @NonNull MessageLogBatchConfig config) {
+
+        if (config.getMaxBatchSize() < 1 || config.getQueueCapacity() < 1 || config.getMaxConcurrentRequests() < 1)
+            throw new IllegalArgumentException("Batch size, queue capacity and concurrent requests must be positive");
+
+        if (config.getFlushInterval().isNegative() || config.getFlushInterval().isZero())
+            throw new IllegalArgumentException("Flush interval must be positive");
+
+        this.asyncEngine = asyncEngine;
+        this.config = config;
+        this.callback = config.getCallback();
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.inFlight = new Semaphore(config.getMaxConcurrentRequests());
+        this.bulkSupported = config.getBulkPath() != null;
+
+        this.worker = new Thread(this::runWorker, "papertrail-write-behind");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queues a message for logging.
+     *
+     * @param messageId      the Discord message ID (must not be {@code null})
+     * @param messageContent the content of the message (must not be {@code null} but may be empty)
+     * @param authorId       the Discord user ID of the message author (must not be {@code null})
+     * @return {@code true} if the message was queued, {@code false} if it was rejected, the buffer is closed
+     *         or the calling thread was interrupted while waiting for space
+     */
+    public boolean submit(@NonNull String messageId, @NonNull String messageContent, @NonNull String authorId) {
+        return submit(new MessageLogContentEntity(messageId, messageContent, authorId));
+    }
+
+    /**
+     * Queues a message for logging.
+     *
+     * @param message the message to log (must not be {@code null})
+     * @return {@code true} if the message was queued, {@code false} if it was rejected, the buffer is closed
+     *         or the calling thread was interrupted while waiting for space
+     */
+    public boolean submit(@NonNull MessageLogContentEntity message) {
+
+        if (!running) {
+            log.debug("Write-behind buffer is closed, message with ID {} was not queued", message.getMessageId());
+            return false;
+        }
+
+        if (!enqueue(message))
+            return false;
+
+        // the buffer may have stopped while the message was being queued, after the worker's final drain;
+        // take it back unless the worker has already picked it up
+        if (!running && queue.remove(message)) {
+            log.debug("Write-behind buffer is closed, message with ID {} was not queued", message.getMessageId());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of messages waiting to be flushed
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    /**
+     * Stops accepting messages, flushes the queue and waits for every in-flight request to complete.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join();
+            inFlight.acquire(config.getMaxConcurrentRequests());
+            inFlight.release(config.getMaxConcurrentRequests());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean enqueue(MessageLogContentEntity message) {
+        switch (config.getBackpressure()) {
+            case BLOCK:
+                try {
+                    queue.put(message);
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            case DROP_OLDEST:
+                while (!queue.offer(message)) {
+                    MessageLogContentEntity dropped = queue.poll();
+                    if (dropped != null)
+                        notifyFailure(dropped, syntheticError(429, "Buffer Overflow", "Dropped to make room for newer messages"));
+                }
+                return true;
+            case REJECT:
+            default:
+                return queue.offer(message);
+        }
+    }
+
+    private void runWorker() {
+
+        long intervalNanos = config.getFlushInterval().toNanos();
+        List<MessageLogContentEntity> batch = new ArrayList<>(config.getMaxBatchSize());
+
+        while (running || !queue.isEmpty()) {
+            try {
+                MessageLogContentEntity first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null)
+                    continue;
+
+                batch.add(first);
+                long deadline = System.nanoTime() + intervalNanos;
+
+                // collect until the batch is full or the oldest record has waited long enough
+                while (batch.size() < config.getMaxBatchSize()) {
+                    queue.drainTo(batch, config.getMaxBatchSize() - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= config.getMaxBatchSize() || remaining <= 0 || !running)
+                        break;
+
+                    MessageLogContentEntity next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null)
+                        break;
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch);
+                ErrorEntity error = syntheticError(503, "Buffer Interrupted", "The write-behind worker was interrupted");
+                batch.forEach(message -> notifyFailure(message, error));
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error while flushing {} messages", batch.size(), e);
+                ErrorEntity error = syntheticError(500, "Flush Failed", String.valueOf(e.getMessage()));
+                batch.forEach(message -> notifyFailure(message, error));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<MessageLogContentEntity> batch) throws InterruptedException {
+
+        if (bulkSupported && flushBulk(batch))
+            return;
+
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                inFlight.acquire();
+                sendSingle(batch.get(i));
+            } catch (InterruptedException | RuntimeException e) {
+                // records already handed to the engine report their own outcome
+                batch.subList(0, i).clear();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the batch was logged, {@code false} if it must be sent as single requests
+     */
+    private boolean flushBulk(List<MessageLogContentEntity> batch) {
+
+        Either<ErrorEntity, MessageLogContentEntity[]> response = asyncEngine.getEngine().makeRequestWithBody(
+                HttpMethod.POST,
+                config.getBulkPath(),
+                RequestHeaders.JSON,
+                new ArrayList<>(batch),
+                MessageLogContentEntity[].class
+        );
+
+        if (response.isLeft() && isUnsupported(response.getLeft())) {
+            log.info("Bulk endpoint {} is not available, falling back to single requests", config.getBulkPath());
+            bulkSupported = false;
+            return false;
+        }
+
+        if (response.isLeft()) {
+            log.debug("Failed to bulk log {} messages, sending them one by one.\nAPI Response: {}", batch.size(), response.getLeft());
+            return false;
+        }
+
+        batch.forEach(this::notifySuccess);
+        return true;
+    }
+
+    private void sendSingle(MessageLogContentEntity message) {
+        try {
+            asyncEngine.makeRequestWithBodyAsync(
+                    HttpMethod.POST,
+                    MESSAGE_PATH,
+                    RequestHeaders.JSON,
+                    message,
+                    MessageLogContentEntity.class
+            ).whenComplete((response, throwable) -> {
+                inFlight.release();
+                if (throwable != null)
+                    notifyFailure(message, syntheticError(500, "Request Failed", String.valueOf(throwable.getMessage())));
+                else if (response.isRight())
+                    notifySuccess(message);
+                else
+                    notifyFailure(message, orUnknown(response.getLeft()));
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private void notifySuccess(MessageLogContentEntity message) {
+        try {
+            callback.onSuccess(message);
+        } catch (RuntimeException e) {
+            log.warn("Batch callback failed for message with ID {}", message.getMessageId(), e);
+        }
+    }
+
+    private void notifyFailure(MessageLogContentEntity message, ErrorEntity error) {
+        try {
+            callback.onFailure(message, error);
+        } catch (RuntimeException e) {
+            log.warn("Batch callback failed for message with ID {}", message.getMessageId(), e);
+        }
+    }
+
+    private static boolean isUnsupported(ErrorEntity error) {
+        return error != null && (error.getStatus() == 404 || error.getStatus() == 405 || error.getStatus() == 501);
+    }
+
+    @NotNull
+    private static ErrorEntity orUnknown(ErrorEntity error) {
+        return error != null ? error : syntheticError(500, "Unknown Error", "The API returned no error details");
+    }
+
+    @NotNull
+    private static ErrorEntity syntheticError(int status, String error, String message) {
+        return new ErrorEntity(status, error, message, Instant.now().toString(), MESSAGE_PATH);
+    }
+
+}
@@ -0,0 +1,166 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link MessageContentCache} holding entities on the heap, bounded by their approximate size.
+ * <p>
+ * Each message is weighed by the UTF-8 length of its content, ID and author ID plus a fixed per-entry overhead
+ * of {@value #ENTRY_OVERHEAD_BYTES} bytes, so messages without text still count toward the budget.
+ * Once the total exceeds the budget, least recently used messages are evicted; a single message heavier than
+ * the whole budget is not cached.
+ * </p>
+ * <p>
+ * Thread-safe.
+ * </p>
+ */
+public class HeapMessageContentCache implements MessageContentCache {
+
+    /**
+     * The bytes added to the weight of every message for the entity, the map entry and the string headers
+     */
+    public static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, CachedMessage> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+    private long contentBytes;
+
+    /**
+     * Creates a new {@code HeapMessageContentCache}.
+     *
+     * @param maxBytes the maximum total weight of the cached messages in bytes (must be positive)
+     * @throws IllegalArgumentException if {@code maxBytes} is not positive
+     */
+    public HeapMessageContentCache(long maxBytes) {
+
+        if (maxBytes < 1)
+            throw new IllegalArgumentException("Maximum size must be positive");
+
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    @NotNull
+    public Optional<MessageLogContentEntity> get(@NonNull String messageId) {
+        synchronized (entries) {
+            CachedMessage cached = entries.get(messageId);
+            return cached == null ? Optional.empty() : Optional.of(cached.message);
+        }
+    }
+
+    @Override
+    public void put(@NonNull MessageLogContentEntity message) {
+
+        CachedMessage entry = new CachedMessage(message);
+
+        synchronized (entries) {
+            remove(message.getMessageId());
+            if (entry.weight > maxBytes)
+                return;
+
+            entries.put(message.getMessageId(), entry);
+            add(entry, 1);
+
+            Iterator<CachedMessage> eldest = entries.values().iterator();
+            while (weight > maxBytes) {
+                add(eldest.next(), -1);
+                eldest.remove();
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(@NonNull String messageId) {
+        synchronized (entries) {
+            remove(messageId);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+            contentBytes = 0;
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public long contentBytes() {
+        synchronized (entries) {
+            return contentBytes;
+        }
+    }
+
+    private void remove(String messageId) {
+        CachedMessage removed = entries.remove(messageId);
+        if (removed != null)
+            add(removed, -1);
+    }
+
+    private void add(CachedMessage entry, int sign) {
+        weight += sign * entry.weight;
+        contentBytes += sign * entry.contentBytes;
+    }
+
+    /**
+     * @return the weight of a message in bytes, as counted against the budget
+     */
+    static long weigh(MessageLogContentEntity message) {
+        return ENTRY_OVERHEAD_BYTES + utf8Length(message.getMessageId()) + utf8Length(message.getAuthorId())
+                + utf8Length(message.getMessageContent());
+    }
+
+    /**
+     * Computes the UTF-8 encoded length without encoding.
+     */
+    static long utf8Length(CharSequence value) {
+        long length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * A cached message, its weight and its content size
+     */
+    private static final class CachedMessage {
+
+        private final MessageLogContentEntity message;
+        private final long weight;
+        private final long contentBytes;
+
+        private CachedMessage(MessageLogContentEntity message) {
+            this.message = message;
+            this.weight = weigh(message);
+            this.contentBytes = utf8Length(message.getMessageContent());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from {@code long} keys to non-negative {@code long} values, without boxing.
+ * Not thread-safe.
+ */
+final class LongLongHashMap {
+
+    static final long ABSENT = -1;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the value mapped to {@code key}, or {@link #ABSENT}
+     */
+    long get(long key) {
+        for (int i = slot(key); values[i] != ABSENT; i = (i + 1) & mask) {
+            if (keys[i] == key)
+                return values[i];
+        }
+        return ABSENT;
+    }
+
+    /**
+     * @param value a non-negative value
+     * @return the previous value mapped to {@code key}, or {@link #ABSENT}
+     */
+    long put(long key, long value) {
+
+        int i = slot(key);
+        for (; values[i] != ABSENT; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                long previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length)
+            allocate(keys.length << 1);
+        return ABSENT;
+    }
+
+    /**
+     * @return the value that was mapped to {@code key}, or {@link #ABSENT}
+     */
+    long remove(long key) {
+
+        int i = slot(key);
+        while (values[i] != ABSENT && keys[i] != key)
+            i = (i + 1) & mask;
+
+        long previous = values[i];
+        if (previous == ABSENT)
+            return ABSENT;
+
+        // backward-shift deletion keeps probe sequences intact without tombstones
+        int hole = i;
+        values[hole] = ABSENT;
+        size--;
+        for (i = (i + 1) & mask; values[i] != ABSENT; i = (i + 1) & mask) {
+            int ideal = slot(keys[i]);
+            if (((i - ideal) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                values[i] = ABSENT;
+                hole = i;
+            }
+        }
+        return previous;
+    }
+
+    void clear() {
+        Arrays.fill(values, ABSENT);
+        size = 0;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(values, ABSENT);
+        mask = capacity - 1;
+        size = 0;
+
+        if (oldKeys == null)
+            return;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != ABSENT)
+                put(oldKeys[i], oldValues[i]);
+        }
+    }
+}
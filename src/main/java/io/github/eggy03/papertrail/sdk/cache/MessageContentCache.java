@@ -0,0 +1,53 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * A local store of recently logged message content, used by
+ * {@link io.github.eggy03.papertrail.sdk.client.MessageLogContentClient} to answer lookups without calling the API.
+ * <p>
+ * The client stores messages it logs, updates or retrieves, and invalidates messages it deletes.
+ * Implementations decide what to evict and must be thread-safe.
+ * </p>
+ */
+public interface MessageContentCache {
+
+    /**
+     * @param messageId the Discord message ID
+     * @return the cached message, or empty if it is not cached
+     */
+    @NotNull
+    Optional<MessageLogContentEntity> get(@NotNull String messageId);
+
+    /**
+     * Stores a message, replacing any cached message with the same ID.
+     *
+     * @param message the message to cache
+     */
+    void put(@NotNull MessageLogContentEntity message);
+
+    /**
+     * Removes a message, if cached.
+     *
+     * @param messageId the Discord message ID
+     */
+    void invalidate(@NotNull String messageId);
+
+    /**
+     * Removes every cached message.
+     */
+    void invalidateAll();
+
+    /**
+     * @return the number of cached messages
+     */
+    int size();
+
+    /**
+     * @return the total size of the cached message content in UTF-8 bytes
+     */
+    long contentBytes();
+}
@@ -0,0 +1,245 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A compact {@link MessageContentCache} that keeps message content outside the Java heap.
+ * <p>
+ * Messages are appended to fixed-size direct {@link ByteBuffer} slabs as records of the message ID and
+ * author ID as {@code long}s followed by the UTF-8 encoded content. Only a primitive index from message ID
+ * to record position lives on the heap, so millions of messages cost a few dozen heap bytes each and add
+ * next to no GC work. Entities are decoded only when looked up.
+ * </p>
+ * <p>
+ * Slabs are used as a ring: when all of them are full, the oldest slab is recycled and every message still
+ * stored in it is evicted. Eviction is therefore first-in-first-out rather than least-recently-used.
+ * Replaced or invalidated records keep occupying their slab until it is recycled.
+ * </p>
+ * <p>
+ * Only numeric (snowflake) message and author IDs are supported; messages with other IDs are not cached.
+ * Messages whose record does not fit into a single slab are not cached either.
+ * </p>
+ * <p>
+ * Thread-safe.
+ * </p>
+ */
+@Slf4j
+public class OffHeapMessageContentCache implements MessageContentCache {
+
+    /**
+     * The default slab size of 4 MiB
+     */
+    public static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+    // message ID, author ID, content length
+    private static final int HEADER_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final int slabSize;
+    private final ByteBuffer[] slabs;
+    private final int[] fills;
+    private final LongLongHashMap index = new LongLongHashMap(1024);
+
+    private int currentSlab;
+    private long contentBytes;
+
+    /**
+     * Creates a new {@code OffHeapMessageContentCache} with {@value #DEFAULT_SLAB_SIZE}-byte slabs.
+     *
+     * @param capacityBytes the total off-heap memory to use (must be at least one slab)
+     * @throws IllegalArgumentException if {@code capacityBytes} is smaller than one slab
+     */
+    public OffHeapMessageContentCache(long capacityBytes) {
+        this(capacityBytes, DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * Creates a new {@code OffHeapMessageContentCache}.
+     * Slabs are allocated when first written to, so memory is only committed as the cache fills.
+     *
+     * @param capacityBytes the total off-heap memory to use (must be at least one slab)
+     * @param slabSize      the size of each slab in bytes (must be larger than a record header)
+     * @throws IllegalArgumentException if the slab size is too small, or the capacity is smaller than one slab
+     *                                  or more than {@link Integer#MAX_VALUE} slabs
+     */
+    public OffHeapMessageContentCache(long capacityBytes, int slabSize) {
+
+        if (slabSize <= HEADER_BYTES)
+            throw new IllegalArgumentException("Slab size must be larger than " + HEADER_BYTES + " bytes");
+
+        long slabCount = capacityBytes / slabSize;
+        if (slabCount < 1 || slabCount > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Capacity must hold between 1 and " + Integer.MAX_VALUE + " slabs");
+
+        this.slabSize = slabSize;
+        this.slabs = new ByteBuffer[(int) slabCount];
+        this.fills = new int[(int) slabCount];
+    }
+
+    @Override
+    @NotNull
+    public synchronized Optional<MessageLogContentEntity> get(@NonNull String messageId) {
+
+        Long id = parseSnowflake(messageId);
+        if (id == null)
+            return Optional.empty();
+
+        long location = index.get(id);
+        if (location == LongLongHashMap.ABSENT)
+            return Optional.empty();
+
+        ByteBuffer slab = slabs[slabOf(location)];
+        int offset = offsetOf(location);
+        long authorId = slab.getLong(offset + Long.BYTES);
+        int length = slab.getInt(offset + 2 * Long.BYTES);
+
+        byte[] content = new byte[length];
+        slab.position(offset + HEADER_BYTES);
+        slab.get(content);
+
+        return Optional.of(new MessageLogContentEntity(
+                messageId,
+                new String(content, StandardCharsets.UTF_8),
+                Long.toUnsignedString(authorId)
+        ));
+    }
+
+    @Override
+    public void put(@NonNull MessageLogContentEntity message) {
+
+        Long id = parseSnowflake(message.getMessageId());
+        Long authorId = parseSnowflake(message.getAuthorId());
+        if (id == null || authorId == null) {
+            log.debug("Not caching message with non-numeric ID {} or author ID {}", message.getMessageId(), message.getAuthorId());
+            return;
+        }
+
+        byte[] content = message.getMessageContent().getBytes(StandardCharsets.UTF_8);
+        int recordSize = HEADER_BYTES + content.length;
+
+        synchronized (this) {
+            remove(id);
+            if (recordSize > slabSize)
+                return;
+
+            int offset = append(id, authorId, content);
+            index.put(id, location(currentSlab, offset));
+            contentBytes += content.length;
+        }
+    }
+
+    @Override
+    public void invalidate(@NonNull String messageId) {
+        Long id = parseSnowflake(messageId);
+        if (id == null)
+            return;
+
+        synchronized (this) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        index.clear();
+        contentBytes = 0;
+        Arrays.fill(fills, 0);
+        currentSlab = 0;
+    }
+
+    @Override
+    public synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized long contentBytes() {
+        return contentBytes;
+    }
+
+    /**
+     * Writes a record to the current slab, moving on to the next slab if it does not fit.
+     *
+     * @return the offset of the record in {@link #currentSlab}
+     */
+    private int append(long id, long authorId, byte[] content) {
+
+        int recordSize = HEADER_BYTES + content.length;
+        if (slabs[currentSlab] == null)
+            slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+        if (slabSize - fills[currentSlab] < recordSize)
+            advance();
+
+        ByteBuffer slab = slabs[currentSlab];
+        int offset = fills[currentSlab];
+        slab.putLong(offset, id);
+        slab.putLong(offset + Long.BYTES, authorId);
+        slab.putInt(offset + 2 * Long.BYTES, content.length);
+        slab.position(offset + HEADER_BYTES);
+        slab.put(content);
+
+        fills[currentSlab] += recordSize;
+        return offset;
+    }
+
+    /**
+     * Makes the next slab of the ring current, evicting the messages it still holds.
+     */
+    private void advance() {
+
+        currentSlab = (currentSlab + 1) % slabs.length;
+        ByteBuffer slab = slabs[currentSlab];
+        if (slab == null) {
+            slabs[currentSlab] = ByteBuffer.allocateDirect(slabSize);
+            return;
+        }
+
+        for (int offset = 0; offset < fills[currentSlab]; ) {
+            long id = slab.getLong(offset);
+            int length = slab.getInt(offset + 2 * Long.BYTES);
+
+            // skip records that were replaced or invalidated since
+            if (index.get(id) == location(currentSlab, offset)) {
+                index.remove(id);
+                contentBytes -= length;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        fills[currentSlab] = 0;
+    }
+
+    private void remove(long id) {
+        long location = index.remove(id);
+        if (location != LongLongHashMap.ABSENT)
+            contentBytes -= slabs[slabOf(location)].getInt(offsetOf(location) + 2 * Long.BYTES);
+    }
+
+    private static long location(int slab, int offset) {
+        return ((long) slab << 32) | offset;
+    }
+
+    private static int slabOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+
+    @Nullable
+    private static Long parseSnowflake(String value) {
+        try {
+            return Long.parseUnsignedLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
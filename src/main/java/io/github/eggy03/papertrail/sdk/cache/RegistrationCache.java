@@ -0,0 +1,196 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.vavr.control.Either;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, time-limited read-through cache for guild registration lookups.
+ * <p>
+ * Entries expire after a fixed time-to-live and the least recently used entry is evicted
+ * once the maximum entry count is exceeded. Guilds the API reports as not registered
+ * ({@code 404}) are cached as well, so repeated lookups for unregistered guilds do not reach
+ * the API either. Any other error is passed through without being cached.
+ * </p>
+ * <p>
+ * Thread-safe. Loads run outside the cache lock; a load that races with an invalidation
+ * is returned to its caller but not stored.
+ * </p>
+ *
+ * @param <V> the registration entity type
+ */
+public class RegistrationCache<V> {
+
+    private static final int NOT_FOUND = 404;
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<String, CachedRegistration<V>> entries;
+
+    private long generation;
+
+    /**
+     * Creates a new {@code RegistrationCache}.
+     *
+     * @param ttl        how long an entry stays valid after it was loaded (must be positive)
+     * @param maxEntries the maximum number of cached guilds (must be positive)
+     * @throws IllegalArgumentException if {@code ttl} or {@code maxEntries} is not positive
+     */
+    public RegistrationCache(@NonNull Duration ttl, int maxEntries) {
+        this(ttl, maxEntries, System::nanoTime);
+    }
+
+    RegistrationCache(@NonNull Duration ttl, int maxEntries, @NonNull LongSupplier nanoClock) {
+
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("TTL must be positive");
+
+        if (maxEntries < 1)
+            throw new IllegalArgumentException("Maximum entry count must be positive");
+
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<String, CachedRegistration<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedRegistration<V>> eldest) {
+                return size() > RegistrationCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached registration for a guild, loading it with {@code loader} on a miss.
+     *
+     * @param guildId the Discord guild ID
+     * @param loader  performs the API lookup on a cache miss
+     * @return an {@link Optional} containing the registration if found, or empty if not registered
+     */
+    @NotNull
+    public Optional<V> get(@NonNull String guildId, @NonNull Function<String, Either<ErrorEntity, V>> loader) {
+
+        CachedRegistration<V> cached = lookup(guildId);
+        if (cached != null)
+            return Optional.ofNullable(cached.value);
+
+        long loadGeneration = currentGeneration();
+        return store(guildId, loader.apply(guildId), loadGeneration);
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(String, Function)}.
+     *
+     * @param guildId the Discord guild ID
+     * @param loader  performs the API lookup on a cache miss
+     * @return a {@link CompletableFuture} completed with an {@link Optional} containing the registration if found,
+     *         or empty if not registered
+     */
+    @NotNull
+    public CompletableFuture<Optional<V>> getAsync(@NonNull String guildId,
+                                                   @NonNull Function<String, CompletableFuture<Either<ErrorEntity, V>>> loader) {
+
+        CachedRegistration<V> cached = lookup(guildId);
+        if (cached != null)
+            return CompletableFuture.completedFuture(Optional.ofNullable(cached.value));
+
+        long loadGeneration = currentGeneration();
+        return loader.apply(guildId).thenApply(response -> store(guildId, response, loadGeneration));
+    }
+
+    /**
+     * Removes the cached registration of a guild, if any.
+     *
+     * @param guildId the Discord guild ID
+     */
+    public void invalidate(@NonNull String guildId) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(guildId);
+        }
+    }
+
+    /**
+     * Removes every cached registration.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return the number of cached guilds, including expired entries not yet evicted
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Nullable
+    private CachedRegistration<V> lookup(String guildId) {
+        synchronized (entries) {
+            CachedRegistration<V> entry = entries.get(guildId);
+            if (entry == null)
+                return null;
+
+            if (nanoClock.getAsLong() - entry.loadedAtNanos >= ttlNanos) {
+                entries.remove(guildId);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private long currentGeneration() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    @NotNull
+    private Optional<V> store(String guildId, Either<ErrorEntity, V> response, long loadGeneration) {
+
+        boolean cacheable = response.isRight() || isNotFound(response.getLeft());
+        V value = response.getOrNull();
+
+        if (cacheable) {
+            synchronized (entries) {
+                if (generation == loadGeneration)
+                    entries.put(guildId, new CachedRegistration<>(value, nanoClock.getAsLong()));
+            }
+        }
+        return Optional.ofNullable(value);
+    }
+
+    private static boolean isNotFound(@Nullable ErrorEntity error) {
+        return error != null && error.getStatus() == NOT_FOUND;
+    }
+
+    /**
+     * A cached registration; a {@code null} value marks a guild that is not registered
+     */
+    private static final class CachedRegistration<V> {
+
+        @Nullable
+        private final V value;
+        private final long loadedAtNanos;
+
+        private CachedRegistration(@Nullable V value, long loadedAtNanos) {
+            this.value = value;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
@@ -1,18 +1,30 @@
 package io.github.eggy03.papertrail.sdk.client;
 
+import io.github.eggy03.papertrail.sdk.cache.RegistrationCache;
 import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
 import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
 import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
 import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestHeaders;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
 import io.vavr.control.Either;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.http.HttpHeaders;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Client for managing audit log registrations via the PaperTrail API.
@@ -20,7 +32,13 @@ import java.util.Optional;
 @Slf4j
 public class AuditLogRegistrationClient {
 
+    private static final int NOT_FOUND = 404;
+
     private final HttpServiceEngine engine;
+    private final AsyncHttpServiceEngine asyncEngine;
+
+    @Nullable
+    private final RegistrationCache<AuditLogRegistrationEntity> cache;
 
     /**
      * Creates a new {@code AuditLogRegistrationClient}.
@@ -29,14 +47,44 @@ public class AuditLogRegistrationClient {
      * @throws ApiBaseUrlException if the base URL is {@code null} or empty
      */
     public AuditLogRegistrationClient(@NonNull String baseUrl){
-        this.engine = new HttpServiceEngine(baseUrl);
+        this(new HttpServiceEngine(baseUrl));
     }
 
     /**
-     * Mostly for testing purposes
+     * Creates a new {@code AuditLogRegistrationClient} on an existing engine.
+     * Engines may be shared between clients, so that all of them use a single connection pool.
+     *
+     * @param httpServiceEngine the engine (must not be {@code null})
      */
     public AuditLogRegistrationClient (@NonNull HttpServiceEngine httpServiceEngine){
-        this.engine = httpServiceEngine;
+        this(new AsyncHttpServiceEngine(httpServiceEngine));
+    }
+
+    /**
+     * Creates a new {@code AuditLogRegistrationClient} whose asynchronous methods run on the given engine.
+     * Blocking methods use the engine's underlying {@link HttpServiceEngine}.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     */
+    public AuditLogRegistrationClient (@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine){
+        this.engine = asyncHttpServiceEngine.getEngine();
+        this.asyncEngine = asyncHttpServiceEngine;
+        this.cache = null;
+    }
+
+    /**
+     * Creates a new {@code AuditLogRegistrationClient} that serves {@link #getRegisteredGuild(String)}
+     * through the given cache. Registrations and deletions made through this client invalidate the
+     * affected guild's cache entry.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     * @param cache                  the registration cache (must not be {@code null})
+     */
+    public AuditLogRegistrationClient (@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine,
+                                     @NonNull RegistrationCache<AuditLogRegistrationEntity> cache){
+        this.engine = asyncHttpServiceEngine.getEngine();
+        this.asyncEngine = asyncHttpServiceEngine;
+        this.cache = cache;
     }
 
     /**
@@ -48,21 +96,57 @@ public class AuditLogRegistrationClient {
      */
     public boolean registerGuild(@NonNull String guildId, @NonNull String channelId) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
         Either<ErrorEntity, AuditLogRegistrationEntity> responseBody = engine.makeRequestWithBody(
                 HttpMethod.POST,
                 "/api/v1/log/audit",
-                headers,
+                RequestHeaders.JSON,
                 new AuditLogRegistrationEntity(guildId, channelId),
                 AuditLogRegistrationEntity.class
         );
 
-        // log in case of failure
-        responseBody.peekLeft(failure -> log.debug("Failed to register guild for audit logging.\nAPI Response: {}", failure));
+        return handleRegisterResponse(guildId, responseBody);
+    }
 
-        return responseBody.isRight();
+    /**
+     * Variant of {@link #registerGuild(String, String)} that gives up once the deadline has passed.
+     *
+     * @param guildId   the Discord guild ID (must not be {@code null})
+     * @param channelId the Discord channel ID where audit logs should be sent (must not be {@code null})
+     * @param deadline  the time the call may take (must not be {@code null}); once it has passed,
+     *                  the request is aborted and the call fails
+     * @return {@code true} if the registration succeeded, {@code false} otherwise
+     */
+    public boolean registerGuild(@NonNull String guildId, @NonNull String channelId, @NonNull Duration deadline) {
+
+        Either<ErrorEntity, AuditLogRegistrationEntity> responseBody = engine.makeRequestWithBody(
+                HttpMethod.POST,
+                "/api/v1/log/audit",
+                RequestHeaders.JSON,
+                new AuditLogRegistrationEntity(guildId, channelId),
+                AuditLogRegistrationEntity.class,
+                deadline
+        );
+
+        return handleRegisterResponse(guildId, responseBody);
+    }
+
+    /**
+     * Asynchronous variant of {@link #registerGuild(String, String)}.
+     *
+     * @param guildId   the Discord guild ID (must not be {@code null})
+     * @param channelId the Discord channel ID where audit logs should be sent (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with {@code true} if the registration succeeded, {@code false} otherwise
+     */
+    @NotNull
+    public CompletableFuture<Boolean> registerGuildAsync(@NonNull String guildId, @NonNull String channelId) {
+
+        return asyncEngine.makeRequestWithBodyAsync(
+                HttpMethod.POST,
+                "/api/v1/log/audit",
+                RequestHeaders.JSON,
+                new AuditLogRegistrationEntity(guildId, channelId),
+                AuditLogRegistrationEntity.class
+        ).thenApply(responseBody -> handleRegisterResponse(guildId, responseBody));
     }
 
     /**
@@ -74,21 +158,130 @@ public class AuditLogRegistrationClient {
     @NotNull
     public Optional<AuditLogRegistrationEntity> getRegisteredGuild (@NonNull String guildId) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (cache != null)
+            return cache.get(guildId, this::requestRegisteredGuild);
 
-        Either<ErrorEntity, AuditLogRegistrationEntity> response = engine.makeRequest(
-                HttpMethod.GET,
-                "/api/v1/log/audit/"+guildId,
-                headers,
-                AuditLogRegistrationEntity.class
-        );
+        // in case of success, return the AuditLogRegistrationEntity object or empty optional
+        return requestRegisteredGuild(guildId).map(Optional::of).getOrElse(Optional.empty());
+    }
 
-        // in case of error entity, log it
-        response.peekLeft(error -> log.debug("No guild of the ID: {} is registered.\nAPI Response: {}", guildId, error));
+    /**
+     * Variant of {@link #getRegisteredGuild(String)} that gives up once the deadline has passed.
+     *
+     * @param guildId  the Discord guild ID (must not be {@code null})
+     * @param deadline the time the call may take (must not be {@code null}); once it has passed,
+     *                 the request is aborted and an empty {@link Optional} is returned
+     * @return an {@link Optional} containing the registration if found, or empty if not registered
+     *         or not retrieved in time
+     */
+    @NotNull
+    public Optional<AuditLogRegistrationEntity> getRegisteredGuild (@NonNull String guildId, @NonNull Duration deadline) {
 
-        // in case of success, return the AuditLogRegistrationEntity object or empty optional
-        return response.map(Optional::of).getOrElse(Optional.empty());
+        if (cache != null)
+            return cache.get(guildId, id -> requestRegisteredGuild(id, deadline));
+
+        return requestRegisteredGuild(guildId, deadline).map(Optional::of).getOrElse(Optional.empty());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRegisteredGuild(String)}.
+     *
+     * @param guildId the Discord guild ID (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with an {@link Optional} containing the registration if found,
+     *         or empty if not registered
+     */
+    @NotNull
+    public CompletableFuture<Optional<AuditLogRegistrationEntity>> getRegisteredGuildAsync (@NonNull String guildId) {
+
+        if (cache != null)
+            return cache.getAsync(guildId, this::requestRegisteredGuildAsync);
+
+        return requestRegisteredGuildAsync(guildId)
+                .thenApply(response -> response.map(Optional::of).getOrElse(Optional.empty()));
+    }
+
+    /**
+     * Retrieves the registrations of several guilds at once, e.g. to warm up a shard on startup.
+     * <p>
+     * The API has no batch lookup, so the guilds are requested concurrently, with at most
+     * 16 requests in flight. If this client has a {@link RegistrationCache}, cached guilds are not
+     * requested and every guild looked up is stored in the cache, so later calls to
+     * {@link #getRegisteredGuild(String)} are served from it.
+     * </p>
+     * <p>
+     * Guilds whose lookup fails are left out of the result like unregistered guilds; use
+     * {@link #getRegisteredGuildsAsync(Collection, int, BiConsumer)} to be told about them.
+     * </p>
+     *
+     * @param guildIds the Discord guild IDs (must not be {@code null}); duplicates are looked up once
+     * @return the registrations that were found, keyed by guild ID in the iteration order of {@code guildIds}
+     */
+    @NotNull
+    public Map<String, AuditLogRegistrationEntity> getRegisteredGuilds (@NonNull Collection<String> guildIds) {
+        return getRegisteredGuildsAsync(guildIds).join();
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRegisteredGuilds(Collection)}.
+     *
+     * @param guildIds the Discord guild IDs (must not be {@code null}); duplicates are looked up once
+     * @return a {@link CompletableFuture} completed with the registrations that were found, keyed by guild ID
+     *         in the iteration order of {@code guildIds}
+     */
+    @NotNull
+    public CompletableFuture<Map<String, AuditLogRegistrationEntity>> getRegisteredGuildsAsync (@NonNull Collection<String> guildIds) {
+        return getRegisteredGuildsAsync(guildIds, BoundedFanOut.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRegisteredGuilds(Collection)} with a custom number of requests in flight.
+     *
+     * @param guildIds    the Discord guild IDs (must not be {@code null}); duplicates are looked up once
+     * @param parallelism the maximum number of requests in flight (must be positive)
+     * @return a {@link CompletableFuture} completed with the registrations that were found, keyed by guild ID
+     *         in the iteration order of {@code guildIds}
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    public CompletableFuture<Map<String, AuditLogRegistrationEntity>> getRegisteredGuildsAsync (@NonNull Collection<String> guildIds,
+                                                                                                int parallelism) {
+        return getRegisteredGuildsAsync(guildIds, parallelism, (guildId, error) -> {
+            // already logged per guild
+        });
+    }
+
+    /**
+     * Retrieves the registrations of several guilds at once, reporting the error of every guild whose
+     * registration could not be retrieved.
+     * <p>
+     * Guilds the API reports as not registered ({@code 404}) are left out of the result without being
+     * reported; any other failure, e.g. an unreachable API, is passed to {@code onError}, so it can be
+     * told apart from a guild that is not registered.
+     * </p>
+     *
+     * @param guildIds    the Discord guild IDs (must not be {@code null}); duplicates are looked up once
+     * @param parallelism the maximum number of requests in flight (must be positive)
+     * @param onError     receives the ID and API error of each guild whose registration could not be
+     *                    retrieved (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with the registrations that were found, keyed by guild ID
+     *         in the iteration order of {@code guildIds}
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    public CompletableFuture<Map<String, AuditLogRegistrationEntity>> getRegisteredGuildsAsync (@NonNull Collection<String> guildIds,
+                                                                                                int parallelism,
+                                                                                                @NonNull BiConsumer<String, ErrorEntity> onError) {
+
+        return BoundedFanOut.run(guildIds, parallelism, this::lookupGuildAsync).thenApply(responses -> {
+            Map<String, AuditLogRegistrationEntity> registrations = new LinkedHashMap<>();
+            responses.forEach((guildId, response) -> {
+                if (response.isLeft())
+                    onError.accept(guildId, response.getLeft());
+                else
+                    response.get().ifPresent(registration -> registrations.put(guildId, registration));
+            });
+            return registrations;
+        });
     }
 
     /**
@@ -99,18 +292,175 @@ public class AuditLogRegistrationClient {
      */
     public boolean deleteRegisteredGuild (@NonNull String guildId) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        Either<ErrorEntity, Void> responseBody = engine.makeRequest(
+                HttpMethod.DELETE,
+                RequestPath.of("/api/v1/log/audit/{guildId}", guildId),
+                RequestHeaders.JSON,
+                Void.class
+        );
+
+        return handleDeleteResponse(guildId, responseBody);
+    }
+
+    /**
+     * Variant of {@link #deleteRegisteredGuild(String)} that gives up once the deadline has passed.
+     *
+     * @param guildId  the Discord guild ID (must not be {@code null})
+     * @param deadline the time the call may take (must not be {@code null}); once it has passed,
+     *                 the request is aborted and the call fails
+     * @return {@code true} if the deletion succeeded, {@code false} otherwise
+     */
+    public boolean deleteRegisteredGuild (@NonNull String guildId, @NonNull Duration deadline) {
 
         Either<ErrorEntity, Void> responseBody = engine.makeRequest(
                 HttpMethod.DELETE,
-                "/api/v1/log/audit/"+guildId,
-                headers,
+                RequestPath.of("/api/v1/log/audit/{guildId}", guildId),
+                RequestHeaders.JSON,
+                Void.class,
+                deadline
+        );
+
+        return handleDeleteResponse(guildId, responseBody);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteRegisteredGuild(String)}.
+     *
+     * @param guildId the Discord guild ID (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with {@code true} if the deletion succeeded, {@code false} otherwise
+     */
+    @NotNull
+    public CompletableFuture<Boolean> deleteRegisteredGuildAsync (@NonNull String guildId) {
+
+        return asyncEngine.makeRequestAsync(
+                HttpMethod.DELETE,
+                RequestPath.of("/api/v1/log/audit/{guildId}", guildId),
+                RequestHeaders.JSON,
                 Void.class
+        ).thenApply(responseBody -> handleDeleteResponse(guildId, responseBody));
+    }
+
+    @NotNull
+    private Either<ErrorEntity, AuditLogRegistrationEntity> requestRegisteredGuild(String guildId) {
+
+        Either<ErrorEntity, AuditLogRegistrationEntity> response = engine.makeRequest(
+                HttpMethod.GET,
+                RequestPath.of("/api/v1/log/audit/{guildId}", guildId),
+                RequestHeaders.JSON,
+                AuditLogRegistrationEntity.class
         );
 
-        responseBody.peekLeft(failure -> log.debug("Failed to delete registered guild for audit logging.\nAPI Response: {}", failure));
+        return logGetFailure(guildId, response);
+    }
+
+    @NotNull
+    private Either<ErrorEntity, AuditLogRegistrationEntity> requestRegisteredGuild(String guildId, Duration deadline) {
+
+        Either<ErrorEntity, AuditLogRegistrationEntity> response = engine.makeRequest(
+                HttpMethod.GET,
+                RequestPath.of("/api/v1/log/audit/{guildId}", guildId),
+                RequestHeaders.JSON,
+                AuditLogRegistrationEntity.class,
+                deadline
+        );
+
+        return logGetFailure(guildId, response);
+    }
+
+    @NotNull
+    private CompletableFuture<Either<ErrorEntity, AuditLogRegistrationEntity>> requestRegisteredGuildAsync(String guildId) {
+
+        return asyncEngine.makeRequestAsync(
+                HttpMethod.GET,
+                RequestPath.of("/api/v1/log/audit/{guildId}", guildId),
+                RequestHeaders.JSON,
+                AuditLogRegistrationEntity.class
+        ).thenApply(response -> logGetFailure(guildId, response));
+    }
+
+    /**
+     * Looks up a single guild, from the cache if possible. A guild that is not registered
+     * yields an empty {@link Optional}, any other failure its error.
+     */
+    @NotNull
+    Either<ErrorEntity, Optional<AuditLogRegistrationEntity>> lookupGuild(String guildId) {
+
+        AtomicReference<ErrorEntity> failure = new AtomicReference<>();
+        Function<String, Either<ErrorEntity, AuditLogRegistrationEntity>> loader = id -> {
+            Either<ErrorEntity, AuditLogRegistrationEntity> response = requestRegisteredGuild(id);
+            if (response.isLeft() && response.getLeft().getStatus() != NOT_FOUND)
+                failure.set(response.getLeft());
+            return response;
+        };
+
+        Optional<AuditLogRegistrationEntity> registration = cache != null
+                ? cache.get(guildId, loader)
+                : loader.apply(guildId).map(Optional::of).getOrElse(Optional.empty());
+
+        ErrorEntity error = failure.get();
+        return error != null ? Either.left(error) : Either.right(registration);
+    }
+
+    /**
+     * Asynchronous variant of {@link #lookupGuild(String)}.
+     */
+    @NotNull
+    CompletableFuture<Either<ErrorEntity, Optional<AuditLogRegistrationEntity>>> lookupGuildAsync(String guildId) {
+
+        AtomicReference<ErrorEntity> failure = new AtomicReference<>();
+        Function<String, CompletableFuture<Either<ErrorEntity, AuditLogRegistrationEntity>>> loader = id ->
+                requestRegisteredGuildAsync(id).thenApply(response -> {
+                    if (response.isLeft() && response.getLeft().getStatus() != NOT_FOUND)
+                        failure.set(response.getLeft());
+                    return response;
+                });
+
+        CompletableFuture<Optional<AuditLogRegistrationEntity>> lookup = cache != null
+                ? cache.getAsync(guildId, loader)
+                : loader.apply(guildId).thenApply(response -> response.map(Optional::of).getOrElse(Optional.empty()));
+
+        return lookup.handle((registration, throwable) -> {
+            if (throwable != null) {
+                log.debug("Registration of guild with ID {} could not be retrieved", guildId, throwable);
+                return Either.left(new ErrorEntity(500, "Request Failed", String.valueOf(throwable.getMessage()), Instant.now().toString(), "/api/v1/log/audit/"+guildId));
+            }
+
+            ErrorEntity error = failure.get();
+            return error != null ? Either.left(error) : Either.right(registration);
+        });
+    }
+
+    private boolean handleRegisterResponse(String guildId, Either<ErrorEntity, AuditLogRegistrationEntity> responseBody) {
+        invalidateCachedGuild(guildId);
+
+        // log in case of failure
+        if (responseBody.isLeft())
+            log.debug("Failed to register guild for audit logging.\nAPI Response: {}", responseBody.getLeft());
+
+        return responseBody.isRight();
+    }
+
+    @NotNull
+    private Either<ErrorEntity, AuditLogRegistrationEntity> logGetFailure(String guildId, Either<ErrorEntity, AuditLogRegistrationEntity> response) {
+        // in case of error entity, log it
+        if (response.isLeft())
+            log.debug("No guild of the ID: {} is registered.\nAPI Response: {}", guildId, response.getLeft());
+
+        return response;
+    }
+
+    private boolean handleDeleteResponse(String guildId, Either<ErrorEntity, Void> responseBody) {
+        invalidateCachedGuild(guildId);
+
+        if (responseBody.isLeft())
+            log.debug("Failed to delete registered guild for audit logging.\nAPI Response: {}", responseBody.getLeft());
 
         return responseBody.isRight();
     }
+
+    private void invalidateCachedGuild(String guildId) {
+        // the write may have reached the API even when the call failed, so invalidate regardless of outcome
+        if (cache != null)
+            cache.invalidate(guildId);
+    }
 }
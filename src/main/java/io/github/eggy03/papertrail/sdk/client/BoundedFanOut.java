@@ -0,0 +1,118 @@
+package io.github.eggy03.papertrail.sdk.client;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs one asynchronous call per key with at most a fixed number of calls in flight,
+ * starting the next call whenever one completes.
+ *
+ * @param <R> the result type of a single call
+ */
+final class BoundedFanOut<R> {
+
+    /**
+     * The number of concurrent requests used by the bulk methods unless specified otherwise
+     */
+    static final int DEFAULT_PARALLELISM = 16;
+
+    private final List<String> keys;
+    private final Function<String, CompletableFuture<R>> call;
+    private final Object[] results;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<Map<String, R>> done = new CompletableFuture<>();
+
+    private BoundedFanOut(List<String> keys, Function<String, CompletableFuture<R>> call) {
+        this.keys = keys;
+        this.call = call;
+        this.results = new Object[keys.size()];
+        this.remaining = new AtomicInteger(keys.size());
+    }
+
+    /**
+     * @param keys        the keys to call for; duplicates are called once
+     * @param parallelism the maximum number of calls in flight (must be positive)
+     * @param call        starts the call for a key
+     * @return a future completed with every key's result in the iteration order of {@code keys},
+     *         or exceptionally as soon as one call fails
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    static <R> CompletableFuture<Map<String, R>> run(@NotNull Collection<String> keys, int parallelism,
+                                                    @NotNull Function<String, CompletableFuture<R>> call) {
+
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be positive");
+
+        List<String> uniqueKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        if (uniqueKeys.isEmpty())
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+
+        BoundedFanOut<R> fanOut = new BoundedFanOut<>(uniqueKeys, call);
+        for (int i = 0; i < Math.min(parallelism, uniqueKeys.size()); i++)
+            fanOut.launch();
+        return fanOut.done;
+    }
+
+    private void launch() {
+        // calls that complete immediately (e.g. cache hits) are handled in a loop rather than by recursion
+        while (!done.isDone()) {
+            int index = next.getAndIncrement();
+            if (index >= keys.size())
+                return;
+
+            CompletableFuture<R> future;
+            try {
+                future = call.apply(keys.get(index));
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+                return;
+            }
+
+            if (!future.isDone()) {
+                future.whenComplete((result, throwable) -> {
+                    complete(index, result, throwable);
+                    launch();
+                });
+                return;
+            }
+
+            try {
+                complete(index, future.join(), null);
+            } catch (RuntimeException e) {
+                complete(index, null, e.getCause() != null ? e.getCause() : e);
+            }
+        }
+    }
+
+    private void complete(int index, R result, Throwable throwable) {
+
+        if (throwable != null) {
+            done.completeExceptionally(throwable);
+            return;
+        }
+
+        results[index] = result;
+        if (remaining.decrementAndGet() == 0)
+            done.complete(collect());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, R> collect() {
+        Map<String, R> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++)
+            map.put(keys.get(i), (R) results[i]);
+        return map;
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.eggy03.papertrail.sdk.client;
+
+import io.github.eggy03.papertrail.sdk.cache.RegistrationCache;
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.GuildRegistrationSnapshot;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.vavr.control.Either;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Client for looking up the audit log and message log registrations of a guild together.
+ * <p>
+ * The API has no combined endpoint, so both registrations are requested in parallel over one engine
+ * and its connection pool. Use {@link AuditLogRegistrationClient} and {@link MessageLogRegistrationClient}
+ * to register and delete guilds.
+ * </p>
+ */
+public class GuildRegistrationClient {
+
+    private final AuditLogRegistrationClient auditLogClient;
+    private final MessageLogRegistrationClient messageLogClient;
+
+    /**
+     * Creates a new {@code GuildRegistrationClient}.
+     *
+     * @param baseUrl the base URL of the PaperTrail API (must not be {@code null} or blank)
+     * @throws ApiBaseUrlException if the base URL is {@code null} or empty
+     */
+    public GuildRegistrationClient(@NonNull String baseUrl){
+        this(new HttpServiceEngine(baseUrl));
+    }
+
+    /**
+     * Creates a new {@code GuildRegistrationClient} on an existing engine.
+     * Engines may be shared between clients, so that all of them use a single connection pool.
+     *
+     * @param httpServiceEngine the engine (must not be {@code null})
+     */
+    public GuildRegistrationClient (@NonNull HttpServiceEngine httpServiceEngine){
+        this(new AsyncHttpServiceEngine(httpServiceEngine));
+    }
+
+    /**
+     * Creates a new {@code GuildRegistrationClient} whose lookups run on the given engine.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     */
+    public GuildRegistrationClient (@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine){
+        this.auditLogClient = new AuditLogRegistrationClient(asyncHttpServiceEngine);
+        this.messageLogClient = new MessageLogRegistrationClient(asyncHttpServiceEngine);
+    }
+
+    /**
+     * Creates a new {@code GuildRegistrationClient} that serves lookups through the given caches.
+     * The caches may be shared with an {@link AuditLogRegistrationClient} and a {@link MessageLogRegistrationClient},
+     * so that registrations and deletions made through those clients invalidate the lookups of this one.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     * @param auditLogCache          the audit log registration cache (must not be {@code null})
+     * @param messageLogCache        the message log registration cache (must not be {@code null})
+     */
+    public GuildRegistrationClient (@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine,
+                                    @NonNull RegistrationCache<AuditLogRegistrationEntity> auditLogCache,
+                                    @NonNull RegistrationCache<MessageLogRegistrationEntity> messageLogCache){
+        this.auditLogClient = new AuditLogRegistrationClient(asyncHttpServiceEngine, auditLogCache);
+        this.messageLogClient = new MessageLogRegistrationClient(asyncHttpServiceEngine, messageLogCache);
+    }
+
+    /**
+     * Retrieves both registrations of a guild, requesting them in parallel.
+     *
+     * @param guildId the Discord guild ID (must not be {@code null})
+     * @return the snapshot of the guild's registrations; a registration is absent if the guild
+     *         is not registered for it or its lookup failed, in which case the snapshot carries the error
+     */
+    @NotNull
+    public GuildRegistrationSnapshot getRegistrations (@NonNull String guildId) {
+
+        // the message log lookup runs on the calling thread while the audit log lookup is in flight
+        CompletableFuture<Either<ErrorEntity, Optional<AuditLogRegistrationEntity>>> auditLog = auditLogClient.lookupGuildAsync(guildId);
+        Either<ErrorEntity, Optional<MessageLogRegistrationEntity>> messageLog = messageLogClient.lookupGuild(guildId);
+
+        return toSnapshot(guildId, auditLog.join(), messageLog);
+    }
+
+    /**
+     * Asynchronous variant of {@link #getRegistrations(String)}.
+     *
+     * @param guildId the Discord guild ID (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with the snapshot of the guild's registrations
+     */
+    @NotNull
+    public CompletableFuture<GuildRegistrationSnapshot> getRegistrationsAsync (@NonNull String guildId) {
+
+        return auditLogClient.lookupGuildAsync(guildId).thenCombine(
+                messageLogClient.lookupGuildAsync(guildId),
+                (auditLog, messageLog) -> toSnapshot(guildId, auditLog, messageLog)
+        );
+    }
+
+    @NotNull
+    private static GuildRegistrationSnapshot toSnapshot(String guildId,
+                                                        Either<ErrorEntity, Optional<AuditLogRegistrationEntity>> auditLog,
+                                                        Either<ErrorEntity, Optional<MessageLogRegistrationEntity>> messageLog) {
+        return new GuildRegistrationSnapshot(
+                guildId,
+                auditLog.isRight() ? auditLog.get().orElse(null) : null,
+                messageLog.isRight() ? messageLog.get().orElse(null) : null,
+                auditLog.isLeft() ? auditLog.getLeft() : null,
+                messageLog.isLeft() ? messageLog.getLeft() : null
+        );
+    }
+}
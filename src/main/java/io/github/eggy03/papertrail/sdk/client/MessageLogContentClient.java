@@ -1,18 +1,33 @@
 package io.github.eggy03.papertrail.sdk.client;
 
+import io.github.eggy03.papertrail.sdk.batch.MessageLogBatchConfig;
+import io.github.eggy03.papertrail.sdk.batch.MessageLogWriteBehindBuffer;
+import io.github.eggy03.papertrail.sdk.cache.MessageContentCache;
 import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
 import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
 import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
 import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestHeaders;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
+import io.github.eggy03.papertrail.sdk.spool.MessageLogSpool;
+import io.github.eggy03.papertrail.sdk.spool.MessageLogSpoolConfig;
 import io.vavr.control.Either;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
-import org.springframework.http.HttpHeaders;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
 
 /**
  * Client for managing stored message content via the PaperTrail API.
@@ -20,7 +35,21 @@ import java.util.Optional;
 @Slf4j
 public class MessageLogContentClient {
 
+    private static final int CACHE_STRIPES = 256;
+
     private final HttpServiceEngine engine;
+    private final AsyncHttpServiceEngine asyncEngine;
+
+    @Nullable
+    private final MessageContentCache cache;
+
+    /**
+     * Invalidation counts per stripe of message IDs, paired with {@link #cacheLocks}; {@code null} without a cache
+     */
+    @Nullable
+    private final AtomicLongArray cacheGenerations;
+    @Nullable
+    private final Object[] cacheLocks;
 
     /**
      * Creates a new {@code MessageLogContentClient}.
@@ -29,14 +58,49 @@ public class MessageLogContentClient {
      * @throws ApiBaseUrlException if the base URL is {@code null} or empty
      */
     public MessageLogContentClient(@NonNull String baseUrl){
-        this.engine = new HttpServiceEngine(baseUrl);
+        this(new HttpServiceEngine(baseUrl));
     }
 
     /**
-     * Mostly for testing purposes
+     * Creates a new {@code MessageLogContentClient} on an existing engine.
+     * Engines may be shared between clients, so that all of them use a single connection pool.
+     *
+     * @param httpServiceEngine the engine (must not be {@code null})
      */
     public MessageLogContentClient (@NonNull HttpServiceEngine httpServiceEngine){
-        this.engine = httpServiceEngine;
+        this(new AsyncHttpServiceEngine(httpServiceEngine));
+    }
+
+    /**
+     * Creates a new {@code MessageLogContentClient} whose asynchronous methods run on the given engine.
+     * Blocking methods use the engine's underlying {@link HttpServiceEngine}.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     */
+    public MessageLogContentClient (@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine){
+        this.engine = asyncHttpServiceEngine.getEngine();
+        this.asyncEngine = asyncHttpServiceEngine;
+        this.cache = null;
+        this.cacheGenerations = null;
+        this.cacheLocks = null;
+    }
+
+    /**
+     * Creates a new {@code MessageLogContentClient} that answers {@link #retrieveMessage(String)} from the given
+     * cache when possible. Messages logged, updated or retrieved through this client are cached;
+     * messages deleted through it are removed from the cache.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     * @param cache                  the message content cache (must not be {@code null})
+     */
+    public MessageLogContentClient (@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine, @NonNull MessageContentCache cache){
+        this.engine = asyncHttpServiceEngine.getEngine();
+        this.asyncEngine = asyncHttpServiceEngine;
+        this.cache = cache;
+        this.cacheGenerations = new AtomicLongArray(CACHE_STRIPES);
+        this.cacheLocks = new Object[CACHE_STRIPES];
+        for (int i = 0; i < CACHE_STRIPES; i++)
+            this.cacheLocks[i] = new Object();
     }
 
     /**
@@ -49,21 +113,93 @@ public class MessageLogContentClient {
      */
     public boolean logMessage(@NonNull String messageId, @NonNull String messageContent, @NonNull String authorId) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
+        MessageLogContentEntity message = new MessageLogContentEntity(messageId, messageContent, authorId);
+        long generation = cacheGeneration(messageId);
         Either<ErrorEntity, MessageLogContentEntity> responseBody = engine.makeRequestWithBody(
                 HttpMethod.POST,
                 "/api/v1/content/message",
-                headers,
-                new MessageLogContentEntity(messageId, messageContent, authorId),
+                RequestHeaders.JSON,
+                message,
                 MessageLogContentEntity.class
         );
 
-        // log in case of failure
-        responseBody.peekLeft(failure -> log.debug("Failed to log message with ID {}.\nAPI Response: {}", messageId, failure));
+        return handleLogResponse(message, generation, responseBody);
+    }
 
-        return responseBody.isRight();
+    /**
+     * Variant of {@link #logMessage(String, String, String)} that gives up once the deadline has passed.
+     *
+     * @param messageId      the Discord message ID (must not be {@code null})
+     * @param messageContent the content of the message (must not be {@code null} but may be empty)
+     * @param authorId       the Discord user ID of the message author (must not be {@code null})
+     * @param deadline       the time the call may take (must not be {@code null}); once it has passed,
+     *                       the request is aborted and the call fails
+     * @return {@code true} if the message was logged successfully, {@code false} otherwise
+     */
+    public boolean logMessage(@NonNull String messageId, @NonNull String messageContent, @NonNull String authorId, @NonNull Duration deadline) {
+
+        MessageLogContentEntity message = new MessageLogContentEntity(messageId, messageContent, authorId);
+        long generation = cacheGeneration(messageId);
+        Either<ErrorEntity, MessageLogContentEntity> responseBody = engine.makeRequestWithBody(
+                HttpMethod.POST,
+                "/api/v1/content/message",
+                RequestHeaders.JSON,
+                message,
+                MessageLogContentEntity.class,
+                deadline
+        );
+
+        return handleLogResponse(message, generation, responseBody);
+    }
+
+    /**
+     * Asynchronous variant of {@link #logMessage(String, String, String)}.
+     *
+     * @param messageId      the Discord message ID (must not be {@code null})
+     * @param messageContent the content of the message (must not be {@code null} but may be empty)
+     * @param authorId       the Discord user ID of the message author (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with {@code true} if the message was logged successfully,
+     *         {@code false} otherwise
+     */
+    @NotNull
+    public CompletableFuture<Boolean> logMessageAsync(@NonNull String messageId, @NonNull String messageContent, @NonNull String authorId) {
+
+        MessageLogContentEntity message = new MessageLogContentEntity(messageId, messageContent, authorId);
+        long generation = cacheGeneration(messageId);
+        return asyncEngine.makeRequestWithBodyAsync(
+                HttpMethod.POST,
+                "/api/v1/content/message",
+                RequestHeaders.JSON,
+                message,
+                MessageLogContentEntity.class
+        ).thenApply(responseBody -> handleLogResponse(message, generation, responseBody));
+    }
+
+    /**
+     * Creates a write-behind buffer that logs messages in batches through this client's engine.
+     * The returned buffer runs its own worker thread and must be {@link MessageLogWriteBehindBuffer#close() closed}
+     * to flush pending messages.
+     *
+     * @param config the buffer settings (must not be {@code null})
+     * @return a started {@link MessageLogWriteBehindBuffer}
+     */
+    @NotNull
+    public MessageLogWriteBehindBuffer writeBehind(@NonNull MessageLogBatchConfig config) {
+        return new MessageLogWriteBehindBuffer(asyncEngine, config);
+    }
+
+    /**
+     * Opens a disk-backed spool that replays messages through this client's engine once the API is reachable.
+     * Messages whose {@link #logMessage(String, String, String)} call failed can be
+     * {@link MessageLogSpool#append(MessageLogContentEntity) appended} to it. The returned spool runs its own
+     * replayer thread and should be {@link MessageLogSpool#close() closed} on shutdown.
+     *
+     * @param config the spool settings (must not be {@code null})
+     * @return an open {@link MessageLogSpool}
+     */
+    @NotNull
+    public MessageLogSpool spool(@NonNull MessageLogSpoolConfig config) {
+        return new MessageLogSpool(engine, config);
     }
 
     /**
@@ -75,21 +211,127 @@ public class MessageLogContentClient {
     @NotNull
     public Optional<MessageLogContentEntity> retrieveMessage (@NonNull String messageId) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        long generation = cacheGeneration(messageId);
+        Optional<MessageLogContentEntity> cached = lookupCachedMessage(messageId);
+        if (cached.isPresent())
+            return cached;
 
         Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
                 HttpMethod.GET,
-                "/api/v1/content/message/"+messageId,
-                headers,
+                RequestPath.of("/api/v1/content/message/{messageId}", messageId),
+                RequestHeaders.JSON,
                 MessageLogContentEntity.class
         );
 
-        // in case of error entity, log it
-        response.peekLeft(error -> log.debug("Message of ID {} could not be retrieved.\nAPI Response: {}", messageId, error));
+        return handleRetrieveResponse(messageId, generation, response);
+    }
 
-        // in case of success, return the never null MessageLogContentEntity object or empty optional
-        return response.map(Optional::of).getOrElse(Optional.empty());
+    /**
+     * Variant of {@link #retrieveMessage(String)} that gives up once the deadline has passed.
+     *
+     * @param messageId the Discord message ID (must not be {@code null})
+     * @param deadline  the time the call may take (must not be {@code null}); once it has passed,
+     *                  the request is aborted and an empty {@link Optional} is returned
+     * @return an {@link Optional} containing the message content if found, or empty if not present
+     *         or not retrieved in time
+     */
+    @NotNull
+    public Optional<MessageLogContentEntity> retrieveMessage (@NonNull String messageId, @NonNull Duration deadline) {
+
+        long generation = cacheGeneration(messageId);
+        Optional<MessageLogContentEntity> cached = lookupCachedMessage(messageId);
+        if (cached.isPresent())
+            return cached;
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET,
+                RequestPath.of("/api/v1/content/message/{messageId}", messageId),
+                RequestHeaders.JSON,
+                MessageLogContentEntity.class,
+                deadline
+        );
+
+        return handleRetrieveResponse(messageId, generation, response);
+    }
+
+    /**
+     * Asynchronous variant of {@link #retrieveMessage(String)}.
+     *
+     * @param messageId the Discord message ID (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with an {@link Optional} containing the message content if found,
+     *         or empty if not present
+     */
+    @NotNull
+    public CompletableFuture<Optional<MessageLogContentEntity>> retrieveMessageAsync (@NonNull String messageId) {
+
+        long generation = cacheGeneration(messageId);
+        Optional<MessageLogContentEntity> cached = lookupCachedMessage(messageId);
+        if (cached.isPresent())
+            return CompletableFuture.completedFuture(cached);
+
+        return asyncEngine.makeRequestAsync(
+                HttpMethod.GET,
+                RequestPath.of("/api/v1/content/message/{messageId}", messageId),
+                RequestHeaders.JSON,
+                MessageLogContentEntity.class
+        ).thenApply(response -> handleRetrieveResponse(messageId, generation, response));
+    }
+
+    /**
+     * Retrieves several logged messages at once.
+     * <p>
+     * The API has no batch lookup, so the messages are requested concurrently, with at most
+     * 16 requests in flight. Messages in the cache are not requested.
+     * </p>
+     *
+     * @param messageIds the Discord message IDs (must not be {@code null}); duplicates are looked up once
+     * @return the messages that were found, keyed by ID in the iteration order of {@code messageIds}
+     */
+    @NotNull
+    public Map<String, MessageLogContentEntity> retrieveMessages (@NonNull Collection<String> messageIds) {
+        return retrieveMessagesAsync(messageIds).join();
+    }
+
+    /**
+     * Asynchronous variant of {@link #retrieveMessages(Collection)}.
+     *
+     * @param messageIds the Discord message IDs (must not be {@code null}); duplicates are looked up once
+     * @return a {@link CompletableFuture} completed with the messages that were found, keyed by ID in the
+     *         iteration order of {@code messageIds}
+     */
+    @NotNull
+    public CompletableFuture<Map<String, MessageLogContentEntity>> retrieveMessagesAsync (@NonNull Collection<String> messageIds) {
+        return retrieveMessagesAsync(messageIds, BoundedFanOut.DEFAULT_PARALLELISM, (messageId, error) -> {
+            // already logged per message
+        });
+    }
+
+    /**
+     * Retrieves several logged messages at once, reporting the error of every message that could not be retrieved.
+     *
+     * @param messageIds  the Discord message IDs (must not be {@code null}); duplicates are looked up once
+     * @param parallelism the maximum number of requests in flight (must be positive)
+     * @param onError     receives the ID and API error of each message that was not found or could not be
+     *                    retrieved (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with the messages that were found, keyed by ID in the
+     *         iteration order of {@code messageIds}
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    public CompletableFuture<Map<String, MessageLogContentEntity>> retrieveMessagesAsync (@NonNull Collection<String> messageIds,
+                                                                                        int parallelism,
+                                                                                        @NonNull BiConsumer<String, ErrorEntity> onError) {
+
+        return BoundedFanOut.run(messageIds, parallelism, this::requestMessageAsync).thenApply(responses -> {
+            Map<String, MessageLogContentEntity> messages = new LinkedHashMap<>();
+            responses.forEach((messageId, response) -> {
+                if (response.isRight())
+                    messages.put(messageId, response.get());
+                else
+                    onError.accept(messageId, response.getLeft());
+            });
+            return messages;
+        });
     }
 
     /**
@@ -102,20 +344,65 @@ public class MessageLogContentClient {
      */
     public boolean updateMessage (@NonNull String messageId, @NonNull String messageContent, @NonNull String authorId) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
+        MessageLogContentEntity message = new MessageLogContentEntity(messageId, messageContent, authorId);
+        long generation = cacheGeneration(messageId);
         Either<ErrorEntity, MessageLogContentEntity> responseBody = engine.makeRequestWithBody(
                 HttpMethod.PUT,
                 "/api/v1/content/message",
-                headers,
-                new MessageLogContentEntity(messageId, messageContent, authorId),
+                RequestHeaders.JSON,
+                message,
                 MessageLogContentEntity.class
         );
 
-        responseBody.peekLeft(failure -> log.debug("Failed to update message with ID {}.\nAPI Response: {}", messageId, failure));
+        return handleUpdateResponse(message, generation, responseBody);
+    }
 
-        return responseBody.isRight();
+    /**
+     * Variant of {@link #updateMessage(String, String, String)} that gives up once the deadline has passed.
+     *
+     * @param messageId      the Discord message ID (must not be {@code null})
+     * @param messageContent the updated message content (must not be {@code null})
+     * @param authorId       the Discord user ID of the message author (must not be {@code null})
+     * @param deadline       the time the call may take (must not be {@code null}); once it has passed,
+     *                       the request is aborted and the call fails
+     * @return {@code true} if the update succeeded, {@code false} otherwise
+     */
+    public boolean updateMessage (@NonNull String messageId, @NonNull String messageContent, @NonNull String authorId, @NonNull Duration deadline) {
+
+        MessageLogContentEntity message = new MessageLogContentEntity(messageId, messageContent, authorId);
+        long generation = cacheGeneration(messageId);
+        Either<ErrorEntity, MessageLogContentEntity> responseBody = engine.makeRequestWithBody(
+                HttpMethod.PUT,
+                "/api/v1/content/message",
+                RequestHeaders.JSON,
+                message,
+                MessageLogContentEntity.class,
+                deadline
+        );
+
+        return handleUpdateResponse(message, generation, responseBody);
+    }
+
+    /**
+     * Asynchronous variant of {@link #updateMessage(String, String, String)}.
+     *
+     * @param messageId      the Discord message ID (must not be {@code null})
+     * @param messageContent the updated message content (must not be {@code null})
+     * @param authorId       the Discord user ID of the message author (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with {@code true} if the update succeeded, {@code false} otherwise
+     */
+    @NotNull
+    public CompletableFuture<Boolean> updateMessageAsync (@NonNull String messageId, @NonNull String messageContent, @NonNull String authorId) {
+
+        MessageLogContentEntity message = new MessageLogContentEntity(messageId, messageContent, authorId);
+        long generation = cacheGeneration(messageId);
+        return asyncEngine.makeRequestWithBodyAsync(
+                HttpMethod.PUT,
+                "/api/v1/content/message",
+                RequestHeaders.JSON,
+                message,
+                MessageLogContentEntity.class
+        ).thenApply(responseBody -> handleUpdateResponse(message, generation, responseBody));
     }
 
     /**
@@ -126,18 +413,212 @@ public class MessageLogContentClient {
      */
     public boolean deleteMessage (@NonNull String messageId) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
         Either<ErrorEntity, Void> responseBody = engine.makeRequest(
                 HttpMethod.DELETE,
-                "/api/v1/content/message/"+messageId,
-                headers,
+                RequestPath.of("/api/v1/content/message/{messageId}", messageId),
+                RequestHeaders.JSON,
                 Void.class
         );
 
-        responseBody.peekLeft(failure -> log.debug("Failed to delete message with ID {}.\nAPI Response: {}", messageId, failure));
+        return handleDeleteResponse(messageId, responseBody);
+    }
+
+    /**
+     * Variant of {@link #deleteMessage(String)} that gives up once the deadline has passed.
+     *
+     * @param messageId the Discord message ID (must not be {@code null})
+     * @param deadline  the time the call may take (must not be {@code null}); once it has passed,
+     *                  the request is aborted and the call fails
+     * @return {@code true} if the deletion succeeded, {@code false} otherwise
+     */
+    public boolean deleteMessage (@NonNull String messageId, @NonNull Duration deadline) {
+
+        Either<ErrorEntity, Void> responseBody = engine.makeRequest(
+                HttpMethod.DELETE,
+                RequestPath.of("/api/v1/content/message/{messageId}", messageId),
+                RequestHeaders.JSON,
+                Void.class,
+                deadline
+        );
+
+        return handleDeleteResponse(messageId, responseBody);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteMessage(String)}.
+     *
+     * @param messageId the Discord message ID (must not be {@code null})
+     * @return a {@link CompletableFuture} completed with {@code true} if the deletion succeeded, {@code false} otherwise
+     */
+    @NotNull
+    public CompletableFuture<Boolean> deleteMessageAsync (@NonNull String messageId) {
+
+        return asyncEngine.makeRequestAsync(
+                HttpMethod.DELETE,
+                RequestPath.of("/api/v1/content/message/{messageId}", messageId),
+                RequestHeaders.JSON,
+                Void.class
+        ).thenApply(responseBody -> handleDeleteResponse(messageId, responseBody));
+    }
+
+    /**
+     * Deletes several logged messages at once, e.g. after a Discord bulk delete.
+     * <p>
+     * The API has no batch deletion, so the deletions are sent concurrently, with at most
+     * 16 requests in flight.
+     * </p>
+     *
+     * @param messageIds the Discord message IDs (must not be {@code null}); duplicates are deleted once
+     * @return for each ID, in the iteration order of {@code messageIds}, {@code true} if the deletion succeeded,
+     *         {@code false} otherwise
+     */
+    @NotNull
+    public Map<String, Boolean> deleteMessages (@NonNull Collection<String> messageIds) {
+        return deleteMessagesAsync(messageIds).join();
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteMessages(Collection)}.
+     *
+     * @param messageIds the Discord message IDs (must not be {@code null}); duplicates are deleted once
+     * @return a {@link CompletableFuture} completed with, for each ID, {@code true} if the deletion succeeded,
+     *         {@code false} otherwise
+     */
+    @NotNull
+    public CompletableFuture<Map<String, Boolean>> deleteMessagesAsync (@NonNull Collection<String> messageIds) {
+        return deleteMessagesAsync(messageIds, BoundedFanOut.DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteMessages(Collection)} with a custom concurrency limit.
+     *
+     * @param messageIds  the Discord message IDs (must not be {@code null}); duplicates are deleted once
+     * @param parallelism the maximum number of requests in flight (must be positive)
+     * @return a {@link CompletableFuture} completed with, for each ID, {@code true} if the deletion succeeded,
+     *         {@code false} otherwise
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    @NotNull
+    public CompletableFuture<Map<String, Boolean>> deleteMessagesAsync (@NonNull Collection<String> messageIds, int parallelism) {
+        return BoundedFanOut.run(messageIds, parallelism, messageId -> deleteMessageAsync(messageId).exceptionally(throwable -> {
+            log.debug("Failed to delete message with ID {}", messageId, throwable);
+            return false;
+        }));
+    }
+
+    private boolean handleLogResponse(MessageLogContentEntity message, long generation, Either<ErrorEntity, MessageLogContentEntity> responseBody) {
+        // log in case of failure
+        if (responseBody.isLeft())
+            log.debug("Failed to log message with ID {}.\nAPI Response: {}", message.getMessageId(), responseBody.getLeft());
+
+        if (responseBody.isRight())
+            cacheIfCurrent(message, generation);
 
         return responseBody.isRight();
     }
+
+    /**
+     * Looks up a single message for the bulk methods, from the cache if possible.
+     */
+    @NotNull
+    private CompletableFuture<Either<ErrorEntity, MessageLogContentEntity>> requestMessageAsync(String messageId) {
+
+        long generation = cacheGeneration(messageId);
+        Optional<MessageLogContentEntity> cached = lookupCachedMessage(messageId);
+        if (cached.isPresent())
+            return CompletableFuture.completedFuture(Either.right(cached.get()));
+
+        return asyncEngine.makeRequestAsync(
+                HttpMethod.GET,
+                RequestPath.of("/api/v1/content/message/{messageId}", messageId),
+                RequestHeaders.JSON,
+                MessageLogContentEntity.class
+        ).handle((response, throwable) -> {
+            if (throwable != null)
+                response = Either.left(new ErrorEntity(500, "Request Failed", String.valueOf(throwable.getMessage()), Instant.now().toString(), "/api/v1/content/message/"+messageId));
+
+            handleRetrieveResponse(messageId, generation, response);
+            return response;
+        });
+    }
+
+    @NotNull
+    private Optional<MessageLogContentEntity> lookupCachedMessage(String messageId) {
+        return cache == null ? Optional.empty() : cache.get(messageId);
+    }
+
+    @NotNull
+    private Optional<MessageLogContentEntity> handleRetrieveResponse(String messageId, long generation, Either<ErrorEntity, MessageLogContentEntity> response) {
+        // in case of error entity, log it
+        if (response.isLeft())
+            log.debug("Message of ID {} could not be retrieved.\nAPI Response: {}", messageId, response.getLeft());
+
+        if (response.isRight())
+            cacheIfCurrent(response.get(), generation);
+
+        // in case of success, return the never null MessageLogContentEntity object or empty optional
+        return response.map(Optional::of).getOrElse(Optional.empty());
+    }
+
+    private boolean handleUpdateResponse(MessageLogContentEntity message, long generation, Either<ErrorEntity, MessageLogContentEntity> responseBody) {
+        if (responseBody.isLeft())
+            log.debug("Failed to update message with ID {}.\nAPI Response: {}", message.getMessageId(), responseBody.getLeft());
+
+        // a failed update may still have reached the API, so the cached content can no longer be trusted
+        if (responseBody.isRight())
+            cacheIfCurrent(message, generation);
+        else
+            invalidateCachedMessage(message.getMessageId());
+
+        return responseBody.isRight();
+    }
+
+    private boolean handleDeleteResponse(String messageId, Either<ErrorEntity, Void> responseBody) {
+        // the deletion may have reached the API even when the call failed, so invalidate regardless of outcome
+        invalidateCachedMessage(messageId);
+
+        if (responseBody.isLeft())
+            log.debug("Failed to delete message with ID {}.\nAPI Response: {}", messageId, responseBody.getLeft());
+
+        return responseBody.isRight();
+    }
+
+    /**
+     * @return the current cache generation of the message, to be passed to
+     *         {@link #cacheIfCurrent(MessageLogContentEntity, long)} once the request started after this call has completed
+     */
+    private long cacheGeneration(String messageId) {
+        return cacheGenerations == null ? 0 : cacheGenerations.get(cacheStripe(messageId));
+    }
+
+    /**
+     * Caches a message unless it, or a message sharing its stripe, was invalidated since {@code generation} was
+     * read; the response of a request that raced with a deletion must not bring the deleted message back.
+     */
+    private void cacheIfCurrent(MessageLogContentEntity message, long generation) {
+        if (cache == null)
+            return;
+
+        int stripe = cacheStripe(message.getMessageId());
+        synchronized (cacheLocks[stripe]) {
+            if (cacheGenerations.get(stripe) == generation)
+                cache.put(message);
+        }
+    }
+
+    private void invalidateCachedMessage(String messageId) {
+        if (cache == null)
+            return;
+
+        int stripe = cacheStripe(messageId);
+        synchronized (cacheLocks[stripe]) {
+            cacheGenerations.incrementAndGet(stripe);
+            cache.invalidate(messageId);
+        }
+    }
+
+    private static int cacheStripe(String messageId) {
+        int hash = messageId.hashCode();
+        return (hash ^ (hash >>> 16)) & (CACHE_STRIPES - 1);
+    }
 }
@@ -0,0 +1,114 @@
+package io.github.eggy03.papertrail.sdk.entity;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Optional;
+
+/**
+ * Represents the audit log and message log registrations of a Discord guild, looked up together.
+ * <p>
+ * Either registration is absent if the guild is not registered for that kind of logging or
+ * the lookup failed. A failed lookup, e.g. an unreachable API or an open circuit, also carries its error,
+ * so that it can be told apart from a guild that is not registered.
+ * It is immutable and safe to use across threads.
+ * </p>
+ */
+public class GuildRegistrationSnapshot {
+
+    /**
+     * The unique ID of the Discord guild.
+     */
+    @Getter
+    @NotNull
+    private final String guildId;
+
+    @Nullable
+    private final AuditLogRegistrationEntity auditLogRegistration;
+
+    @Nullable
+    private final MessageLogRegistrationEntity messageLogRegistration;
+
+    @Nullable
+    private final ErrorEntity auditLogError;
+
+    @Nullable
+    private final ErrorEntity messageLogError;
+
+    /**
+     * Creates a new {@code GuildRegistrationSnapshot} of two successful lookups.
+     *
+     * @param guildId                the Discord guild ID (must not be {@code null})
+     * @param auditLogRegistration   the audit log registration, or {@code null} if there is none
+     * @param messageLogRegistration the message log registration, or {@code null} if there is none
+     */
+    public GuildRegistrationSnapshot(@NonNull String guildId,
+                                     @Nullable AuditLogRegistrationEntity auditLogRegistration,
+                                     @Nullable MessageLogRegistrationEntity messageLogRegistration) {
+        this(guildId, auditLogRegistration, messageLogRegistration, null, null);
+    }
+
+    /**
+     * Creates a new {@code GuildRegistrationSnapshot} whose lookups may have failed.
+     *
+     * @param guildId                the Discord guild ID (must not be {@code null})
+     * @param auditLogRegistration   the audit log registration, or {@code null} if there is none
+     * @param messageLogRegistration the message log registration, or {@code null} if there is none
+     * @param auditLogError          the error of the audit log lookup, or {@code null} if it succeeded
+     * @param messageLogError        the error of the message log lookup, or {@code null} if it succeeded
+     */
+    public GuildRegistrationSnapshot(@NonNull String guildId,
+                                     @Nullable AuditLogRegistrationEntity auditLogRegistration,
+                                     @Nullable MessageLogRegistrationEntity messageLogRegistration,
+                                     @Nullable ErrorEntity auditLogError,
+                                     @Nullable ErrorEntity messageLogError) {
+        this.guildId = guildId;
+        this.auditLogRegistration = auditLogRegistration;
+        this.messageLogRegistration = messageLogRegistration;
+        this.auditLogError = auditLogError;
+        this.messageLogError = messageLogError;
+    }
+
+    /**
+     * @return an {@link Optional} containing the audit log registration, or empty if the guild has none
+     */
+    @NotNull
+    public Optional<AuditLogRegistrationEntity> getAuditLogRegistration() {
+        return Optional.ofNullable(auditLogRegistration);
+    }
+
+    /**
+     * @return an {@link Optional} containing the message log registration, or empty if the guild has none
+     */
+    @NotNull
+    public Optional<MessageLogRegistrationEntity> getMessageLogRegistration() {
+        return Optional.ofNullable(messageLogRegistration);
+    }
+
+    /**
+     * @return an {@link Optional} containing the error of the audit log lookup, or empty if it succeeded,
+     *         including when the guild is not registered for audit logging
+     */
+    @NotNull
+    public Optional<ErrorEntity> getAuditLogError() {
+        return Optional.ofNullable(auditLogError);
+    }
+
+    /**
+     * @return an {@link Optional} containing the error of the message log lookup, or empty if it succeeded,
+     *         including when the guild is not registered for message logging
+     */
+    @NotNull
+    public Optional<ErrorEntity> getMessageLogError() {
+        return Optional.ofNullable(messageLogError);
+    }
+
+    /**
+     * @return {@code true} if both lookups succeeded, so that an absent registration means the guild is not registered
+     */
+    public boolean isComplete() {
+        return auditLogError == null && messageLogError == null;
+    }
+}
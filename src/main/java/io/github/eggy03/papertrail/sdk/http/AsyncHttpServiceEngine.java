@@ -0,0 +1,237 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.vavr.control.Either;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous counterpart of {@link HttpServiceEngine}.
+ * <p>
+ * Requests are dispatched to an {@link Executor} and their results are returned as
+ * {@link CompletableFuture}s wrapping the same {@link Either} produced by the blocking engine,
+ * so error mapping is identical for both variants. The calling thread is released immediately
+ * and only the executor threads wait on the network.
+ * </p>
+ * <p>
+ * Unless an executor is supplied, a shared pool of daemon threads is used. Its size can be
+ * tuned with the {@code papertrail.async.threads} system property (defaults to 64).
+ * </p>
+ * <p>
+ * On Java 21 and newer, requests can instead run on a virtual thread each, either through
+ * {@link #withVirtualThreads(HttpServiceEngine, int)} or, for the shared default executor, by setting the
+ * {@code papertrail.async.virtualThreads} system property to {@code true}. The number of concurrent requests
+ * is then capped by a semaphore, which for the default executor is sized by {@code papertrail.async.threads}.
+ * On older runtimes the property is ignored and the thread pool is used.
+ * </p>
+ */
+@Slf4j
+public class AsyncHttpServiceEngine {
+
+    private static final int DEFAULT_THREADS = Integer.getInteger("papertrail.async.threads", 64);
+    private static final boolean DEFAULT_VIRTUAL_THREADS = Boolean.getBoolean("papertrail.async.virtualThreads");
+
+    /**
+     * The blocking engine every request is delegated to
+     */
+    @Getter
+    private final HttpServiceEngine engine;
+
+    private final Executor executor;
+
+    /**
+     * Creates a new {@code AsyncHttpServiceEngine} backed by the shared default executor.
+     *
+     * @param engine the blocking engine to delegate to (must not be {@code null})
+     */
+    public AsyncHttpServiceEngine(@NonNull HttpServiceEngine engine) {
+        this(engine, DefaultExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * Creates a new {@code AsyncHttpServiceEngine} backed by the given executor.
+     *
+     * @param engine   the blocking engine to delegate to (must not be {@code null})
+     * @param executor the executor on which requests are run (must not be {@code null})
+     */
+    public AsyncHttpServiceEngine(@NonNull HttpServiceEngine engine, @NonNull Executor executor) {
+        this.engine = engine;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a new {@code AsyncHttpServiceEngine} that runs every request on its own virtual thread.
+     *
+     * @param engine                the blocking engine to delegate to (must not be {@code null})
+     * @param maxConcurrentRequests the maximum number of requests running at once; further requests wait
+     *                              on their virtual thread until one completes
+     * @return the engine
+     * @throws IllegalArgumentException      if {@code maxConcurrentRequests} is not positive
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     * @see #isVirtualThreadSupported()
+     */
+    @NotNull
+    public static AsyncHttpServiceEngine withVirtualThreads(@NonNull HttpServiceEngine engine, int maxConcurrentRequests) {
+
+        if (maxConcurrentRequests < 1)
+            throw new IllegalArgumentException("Maximum concurrent requests must be positive");
+
+        return new AsyncHttpServiceEngine(engine, new ConcurrencyLimitedExecutor(VirtualThreads.newExecutor(), maxConcurrentRequests));
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads, i.e. whether
+     *         {@link #withVirtualThreads(HttpServiceEngine, int)} can be used
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * Asynchronously executes an HTTP request without a request body.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., GET, DELETE)
+     * @param path                  the target API path
+     * @param headers               the HTTP headers to include in the request
+     * @param successResponseClass  the expected response type on success
+     * @param <S>                   the success response type
+     * @return a {@link CompletableFuture} completed with an {@link Either} containing either
+     *         an {@link ErrorEntity} on failure or a deserialized success response on success
+     */
+    @NotNull
+    public <S> CompletableFuture<Either<ErrorEntity, S>> makeRequestAsync (
+            @NotNull HttpMethod httpMethod,
+            @NotNull String path,
+            @NotNull HttpHeaders headers,
+            @NotNull Class<S> successResponseClass) {
+
+        return CompletableFuture.supplyAsync(
+                () -> engine.makeRequest(httpMethod, path, headers, successResponseClass),
+                executor
+        );
+    }
+
+    /**
+     * Asynchronously executes an HTTP request without a request body, reporting the path's template to metrics.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., GET, DELETE)
+     * @param path                  the target API path and its template
+     * @param headers               the HTTP headers to include in the request
+     * @param successResponseClass  the expected response type on success
+     * @param <S>                   the success response type
+     * @return a {@link CompletableFuture} completed with an {@link Either} containing either
+     *         an {@link ErrorEntity} on failure or a deserialized success response on success
+     */
+    @NotNull
+    public <S> CompletableFuture<Either<ErrorEntity, S>> makeRequestAsync (
+            @NotNull HttpMethod httpMethod,
+            @NotNull RequestPath path,
+            @NotNull HttpHeaders headers,
+            @NotNull Class<S> successResponseClass) {
+
+        return CompletableFuture.supplyAsync(
+                () -> engine.makeRequest(httpMethod, path, headers, successResponseClass),
+                executor
+        );
+    }
+
+    /**
+     * Asynchronously executes an HTTP request with a request body.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., POST, PUT)
+     * @param path                  the target API path
+     * @param headers               the HTTP headers to include in the request
+     * @param requestBody           the request body to send
+     * @param successResponseClass  the expected response type on success
+     * @param <S>                   the success response type
+     * @return a {@link CompletableFuture} completed with an {@link Either} containing either
+     *         an {@link ErrorEntity} on failure or a deserialized success response on success
+     */
+    @NotNull
+    public <S> CompletableFuture<Either<ErrorEntity, S>> makeRequestWithBodyAsync (
+            @NotNull HttpMethod httpMethod,
+            @NotNull String path,
+            @NotNull HttpHeaders headers,
+            @NotNull Object requestBody,
+            @NotNull Class<S> successResponseClass) {
+
+        return CompletableFuture.supplyAsync(
+                () -> engine.makeRequestWithBody(httpMethod, path, headers, requestBody, successResponseClass),
+                executor
+        );
+    }
+
+    /**
+     * Asynchronously executes an HTTP request with a request body, reporting the path's template to metrics.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., POST, PUT)
+     * @param path                  the target API path and its template
+     * @param headers               the HTTP headers to include in the request
+     * @param requestBody           the request body to send
+     * @param successResponseClass  the expected response type on success
+     * @param <S>                   the success response type
+     * @return a {@link CompletableFuture} completed with an {@link Either} containing either
+     *         an {@link ErrorEntity} on failure or a deserialized success response on success
+     */
+    @NotNull
+    public <S> CompletableFuture<Either<ErrorEntity, S>> makeRequestWithBodyAsync (
+            @NotNull HttpMethod httpMethod,
+            @NotNull RequestPath path,
+            @NotNull HttpHeaders headers,
+            @NotNull Object requestBody,
+            @NotNull Class<S> successResponseClass) {
+
+        return CompletableFuture.supplyAsync(
+                () -> engine.makeRequestWithBody(httpMethod, path, headers, requestBody, successResponseClass),
+                executor
+        );
+    }
+
+    /**
+     * Lazily initialized holder for the shared default executor
+     */
+    private static final class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = createExecutor();
+
+        private static Executor createExecutor() {
+
+            if (DEFAULT_VIRTUAL_THREADS) {
+                if (VirtualThreads.isSupported()) {
+                    log.debug("Created default async executor on virtual threads, limited to {} concurrent requests", DEFAULT_THREADS);
+                    return new ConcurrencyLimitedExecutor(VirtualThreads.newExecutor(), DEFAULT_THREADS);
+                }
+                log.warn("papertrail.async.virtualThreads is set but virtual threads are not supported, using a thread pool");
+            }
+
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "papertrail-async-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                    DEFAULT_THREADS, DEFAULT_THREADS,
+                    60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    threadFactory
+            );
+            pool.allowCoreThreadTimeOut(true);
+            log.debug("Created default async executor with {} threads", DEFAULT_THREADS);
+            return pool;
+        }
+    }
+}
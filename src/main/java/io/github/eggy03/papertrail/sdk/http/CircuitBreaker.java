@@ -0,0 +1,181 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker guarding an {@link HttpServiceEngine}.
+ *
+ * @see CircuitBreakerConfig
+ */
+@Slf4j
+final class CircuitBreaker {
+
+    private final CircuitBreakerConfig config;
+    private final LongSupplier nanoClock;
+    private final long openNanos;
+
+    // ring buffer of outcomes while closed, true = failure
+    private final boolean[] window;
+    private int windowIndex;
+    private int recorded;
+    private int failures;
+
+    private CircuitState state = CircuitState.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(@NotNull CircuitBreakerConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    CircuitBreaker(@NotNull CircuitBreakerConfig config, @NotNull LongSupplier nanoClock) {
+
+        if (config.getSlidingWindowSize() < 1 || config.getMinimumNumberOfCalls() < 1 || config.getPermittedCallsInHalfOpenState() < 1)
+            throw new IllegalArgumentException("Window size, minimum number of calls and half-open calls must be positive");
+
+        // only the last slidingWindowSize calls are recorded, so a larger minimum could never be reached
+        if (config.getMinimumNumberOfCalls() > config.getSlidingWindowSize())
+            throw new IllegalArgumentException("Minimum number of calls must not exceed the sliding window size");
+
+        if (config.getFailureRateThreshold() <= 0 || config.getFailureRateThreshold() > 1)
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 1]");
+
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.openNanos = config.getWaitDurationInOpenState().toNanos();
+        this.window = new boolean[config.getSlidingWindowSize()];
+    }
+
+    @NotNull
+    synchronized CircuitState getState() {
+        return state;
+    }
+
+    /**
+     * @return {@code true} if a request may be sent now
+     */
+    boolean tryAcquirePermission() {
+
+        CircuitState from;
+        synchronized (this) {
+            from = state;
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (nanoClock.getAsLong() - openedAtNanos < openNanos)
+                        return false;
+                    transitionTo(CircuitState.HALF_OPEN);
+                    halfOpenPermits--;
+                    break;
+                case HALF_OPEN:
+                default:
+                    if (halfOpenPermits <= 0)
+                        return false;
+                    halfOpenPermits--;
+                    return true;
+            }
+        }
+        notifyListener(from, CircuitState.HALF_OPEN);
+        return true;
+    }
+
+    /**
+     * Records the outcome of a request that was permitted by {@link #tryAcquirePermission()}.
+     *
+     * @param failure whether the request failed
+     */
+    void onResult(boolean failure) {
+
+        CircuitState from;
+        CircuitState to;
+        synchronized (this) {
+            from = state;
+            switch (state) {
+                case CLOSED:
+                    record(failure);
+                    if (recorded >= config.getMinimumNumberOfCalls()
+                            && (double) failures / recorded >= config.getFailureRateThreshold())
+                        transitionTo(CircuitState.OPEN);
+                    break;
+                case HALF_OPEN:
+                    if (failure)
+                        transitionTo(CircuitState.OPEN);
+                    else if (++halfOpenSuccesses >= config.getPermittedCallsInHalfOpenState())
+                        transitionTo(CircuitState.CLOSED);
+                    break;
+                case OPEN:
+                default:
+                    // a request permitted before the circuit opened; its outcome no longer matters
+                    break;
+            }
+            to = state;
+        }
+
+        if (from != to)
+            notifyListener(from, to);
+    }
+
+    /**
+     * Returns the permission of a request that was aborted before it completed, without recording an outcome.
+     */
+    synchronized void releasePermission() {
+        // only probes are counted; give the probe back so that another request can finish it
+        if (state == CircuitState.HALF_OPEN && halfOpenPermits < config.getPermittedCallsInHalfOpenState())
+            halfOpenPermits++;
+    }
+
+    private void record(boolean failure) {
+
+        if (recorded == window.length) {
+            if (window[windowIndex])
+                failures--;
+        } else {
+            recorded++;
+        }
+
+        window[windowIndex] = failure;
+        if (failure)
+            failures++;
+
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(CircuitState next) {
+
+        state = next;
+        switch (next) {
+            case OPEN:
+                openedAtNanos = nanoClock.getAsLong();
+                break;
+            case HALF_OPEN:
+                halfOpenPermits = config.getPermittedCallsInHalfOpenState();
+                halfOpenSuccesses = 0;
+                break;
+            case CLOSED:
+            default:
+                windowIndex = 0;
+                recorded = 0;
+                failures = 0;
+                break;
+        }
+    }
+
+    private void notifyListener(CircuitState from, CircuitState to) {
+
+        if (to == CircuitState.OPEN)
+            log.warn("Circuit breaker opened, failing requests fast for {} ms", openNanos / 1_000_000);
+        else
+            log.info("Circuit breaker transitioned from {} to {}", from, to);
+
+        try {
+            config.getListener().onStateTransition(from, to);
+        } catch (RuntimeException e) {
+            log.warn("Circuit breaker listener failed", e);
+        }
+    }
+}
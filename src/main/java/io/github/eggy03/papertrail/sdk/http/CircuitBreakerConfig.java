@@ -0,0 +1,65 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link HttpServiceEngine}'s circuit breaker.
+ * <p>
+ * The breaker records whether each of the last {@code slidingWindowSize} requests failed.
+ * A request fails if the API could not be reached or answered with a {@code 5xx} status.
+ * Once at least {@code minimumNumberOfCalls} requests were recorded and the failure rate reaches
+ * {@code failureRateThreshold}, the circuit opens and requests fail immediately for
+ * {@code waitDurationInOpenState}. Afterwards up to {@code permittedCallsInHalfOpenState}
+ * trial requests are let through: if all succeed the circuit closes, if any fails it opens again.
+ * </p>
+ * <p>
+ * Immutable; create instances through {@code builder()}. Every setting has a default.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CircuitBreakerConfig {
+
+    /**
+     * The failure rate, between {@code 0} (exclusive) and {@code 1} (inclusive), at which the circuit opens.
+     */
+    @Builder.Default
+    private final double failureRateThreshold = 0.5;
+
+    /**
+     * The number of most recent requests the failure rate is computed over.
+     */
+    @Builder.Default
+    private final int slidingWindowSize = 20;
+
+    /**
+     * The number of requests that must be recorded before the failure rate is evaluated;
+     * must not exceed {@code slidingWindowSize}.
+     */
+    @Builder.Default
+    private final int minimumNumberOfCalls = 10;
+
+    /**
+     * How long the circuit stays open before trial requests are allowed.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    /**
+     * The number of trial requests allowed while half-open.
+     */
+    @Builder.Default
+    private final int permittedCallsInHalfOpenState = 3;
+
+    /**
+     * Notified of every state transition.
+     */
+    @NonNull
+    @Builder.Default
+    private final CircuitBreakerListener listener = CircuitBreakerListener.NO_OP;
+}
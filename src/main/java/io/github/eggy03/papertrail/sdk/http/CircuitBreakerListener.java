@@ -0,0 +1,26 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Notified whenever the {@link HttpServiceEngine}'s circuit breaker changes state, e.g. to raise alerts.
+ * <p>
+ * Called on the thread whose request caused the transition, outside the breaker's lock.
+ * Exceptions thrown by a listener are logged and otherwise ignored.
+ * </p>
+ */
+@FunctionalInterface
+public interface CircuitBreakerListener {
+
+    /**
+     * A listener that ignores every transition
+     */
+    CircuitBreakerListener NO_OP = (from, to) -> {
+    };
+
+    /**
+     * @param from the previous state
+     * @param to   the new state
+     */
+    void onStateTransition(@NotNull CircuitState from, @NotNull CircuitState to);
+}
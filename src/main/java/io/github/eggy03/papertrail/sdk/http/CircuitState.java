@@ -0,0 +1,22 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+/**
+ * The states of the {@link HttpServiceEngine}'s circuit breaker.
+ */
+public enum CircuitState {
+
+    /**
+     * Requests flow normally while their outcomes are recorded.
+     */
+    CLOSED,
+
+    /**
+     * The failure rate exceeded the threshold; requests fail immediately without network I/O.
+     */
+    OPEN,
+
+    /**
+     * The open period has elapsed; a limited number of trial requests decide whether to close or re-open.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,44 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs at most {@code maxConcurrent} tasks of a delegate {@link Executor} at a time.
+ * <p>
+ * The permit is taken on the delegate's thread, so submitting never blocks. This suits a
+ * virtual-thread-per-task delegate, where a task waiting for a permit only parks its own cheap thread.
+ * </p>
+ */
+final class ConcurrencyLimitedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+
+    ConcurrencyLimitedExecutor(@NotNull Executor delegate, int maxConcurrent) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        delegate.execute(() -> {
+            // uninterruptible so that the task always runs and completes the future waiting on it
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * @return the number of tasks that may start right now
+     */
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+}
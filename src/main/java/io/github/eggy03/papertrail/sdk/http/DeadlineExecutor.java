@@ -0,0 +1,120 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs requests that must complete within a deadline.
+ * <p>
+ * The request runs on the calling thread. Once the deadline has passed, a single timer thread shared by all
+ * engines interrupts the caller, which aborts the exchange and frees its connection, as well as any retry
+ * backoff or hedged attempts; the caller then receives a {@code 504 Deadline Exceeded} error. A deadline
+ * therefore costs a scheduled task rather than a thread of its own, on platform and virtual threads alike.
+ * </p>
+ * <p>
+ * The interrupt delivered by the timer is cleared before the caller returns. An interrupt from elsewhere
+ * that arrives while the deadline fires is cleared along with it.
+ * </p>
+ */
+@Slf4j
+final class DeadlineExecutor {
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    @NotNull
+    <S> Either<ErrorEntity, S> execute(@NotNull String path, @NotNull Duration deadline, @NotNull Supplier<Either<ErrorEntity, S>> call) {
+
+        if (deadline.isNegative() || deadline.isZero())
+            return exceeded(path, deadline);
+
+        Watchdog watchdog = new Watchdog(Thread.currentThread());
+        ScheduledFuture<?> timeout = TIMER.schedule(watchdog, toNanos(deadline), TimeUnit.NANOSECONDS);
+
+        Either<ErrorEntity, S> response;
+        boolean expired;
+        try {
+            response = call.get();
+        } finally {
+            timeout.cancel(false);
+            expired = watchdog.finish();
+        }
+
+        if (expired) {
+            log.debug("No response for {} within {} ms, the request was aborted", path, deadline.toMillis());
+            return exceeded(path, deadline);
+        }
+        return response;
+    }
+
+    private static <S> Either<ErrorEntity, S> exceeded(String path, Duration deadline) {
+        return Either.left(new ErrorEntity(504, "Deadline Exceeded", "No response within " + deadline.toMillis() + " ms", Instant.now().toString(), path));
+    }
+
+    private static long toNanos(Duration duration) {
+        // Duration#toNanos overflows after about 292 years
+        return duration.getSeconds() >= TimeUnit.NANOSECONDS.toSeconds(Long.MAX_VALUE) ? Long.MAX_VALUE : duration.toNanos();
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "papertrail-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // most requests finish in time, so do not keep their cancelled timeouts queued
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Interrupts the caller once the deadline has passed, unless the request finished first
+     */
+    private static final class Watchdog implements Runnable {
+
+        private static final int RUNNING = 0;
+        private static final int FIRING = 1;
+        private static final int FIRED = 2;
+        private static final int FINISHED = 3;
+
+        private final Thread caller;
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        private Watchdog(Thread caller) {
+            this.caller = caller;
+        }
+
+        @Override
+        public void run() {
+            if (state.compareAndSet(RUNNING, FIRING)) {
+                caller.interrupt();
+                state.set(FIRED);
+            }
+        }
+
+        /**
+         * Called by the caller once the request has returned.
+         *
+         * @return whether the deadline fired, in which case its interrupt has been cleared
+         */
+        private boolean finish() {
+            if (state.compareAndSet(RUNNING, FINISHED))
+                return false;
+
+            // the interrupt is being delivered right now, wait for it so that it can be cleared
+            while (state.get() != FIRED)
+                Thread.yield();
+            Thread.interrupted();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The groups of PaperTrail API endpoints that are rate limited independently.
+ */
+public enum EndpointGroup {
+
+    /**
+     * Message content endpoints under {@code /api/v1/content}
+     */
+    CONTENT("/api/v1/content"),
+
+    /**
+     * Audit log registration endpoints under {@code /api/v1/log/audit}
+     */
+    AUDIT_LOG("/api/v1/log/audit"),
+
+    /**
+     * Message log registration endpoints under {@code /api/v1/log/message}
+     */
+    MESSAGE_LOG("/api/v1/log/message"),
+
+    /**
+     * Any other path
+     */
+    OTHER("");
+
+    private static final EndpointGroup[] GROUPS = values();
+
+    private final String prefix;
+
+    EndpointGroup(String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * @param path a request path, optionally with a query string
+     * @return the group the path belongs to
+     */
+    @NotNull
+    public static EndpointGroup of(@NotNull String path) {
+        for (EndpointGroup group : GROUPS) {
+            if (group != OTHER && path.startsWith(group.prefix)
+                    && (path.length() == group.prefix.length() || "/?".indexOf(path.charAt(group.prefix.length())) >= 0))
+                return group;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.json.EntityStreamingCodec;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import tools.jackson.core.JacksonException;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes the SDK's entities through {@link EntityStreamingCodec} instead of Jackson data binding.
+ * Every other type is left to the regular JSON converter.
+ */
+class EntityStreamingHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    EntityStreamingHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return EntityStreamingCodec.supports(clazz);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return EntityStreamingCodec.read(inputMessage.getBody(), clazz);
+        } catch (JacksonException e) {
+            throw new HttpMessageNotReadableException("Could not read " + clazz.getSimpleName() + ": " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object entity, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            EntityStreamingCodec.write(entity, outputMessage.getBody());
+        } catch (JacksonException e) {
+            throw new HttpMessageNotWritableException("Could not write " + entity.getClass().getSimpleName() + ": " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip-compresses request bodies of at least {@code threshold} bytes and marks them with
+ * {@code Content-Encoding: gzip}.
+ * <p>
+ * Bodies that already carry a {@code Content-Encoding}, or that do not shrink, are sent unchanged.
+ * </p>
+ */
+final class GzipRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String GZIP = "gzip";
+
+    private final int threshold;
+
+    GzipRequestInterceptor(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    @NotNull
+    public ClientHttpResponse intercept(@NotNull HttpRequest request, byte[] body,
+                                        @NotNull ClientHttpRequestExecution execution) throws IOException {
+
+        HttpHeaders headers = request.getHeaders();
+        if (body.length < threshold || body.length == 0 || headers.containsHeader(HttpHeaders.CONTENT_ENCODING))
+            return execution.execute(request, body);
+
+        byte[] compressed = gzip(body);
+        if (compressed.length >= body.length)
+            return execution.execute(request, body);
+
+        headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        headers.setContentLength(compressed.length);
+        return execution.execute(request, compressed);
+    }
+
+    @NotNull
+    static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 2));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 4096)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
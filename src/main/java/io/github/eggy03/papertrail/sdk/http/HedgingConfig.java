@@ -0,0 +1,83 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Settings of the {@link HttpServiceEngine}'s request hedging for {@code GET} requests.
+ * <p>
+ * If a {@code GET} has not completed after the {@code percentile} of recently observed {@code GET} latencies,
+ * an identical second request is sent. Whichever completes first is returned and the other is cancelled.
+ * Until {@code minimumSamples} latencies were observed, {@code initialDelay} is used instead. The delay is
+ * never shorter than {@code minimumDelay}.
+ * </p>
+ * <p>
+ * Every request adds {@code budgetRatio} tokens to a hedging budget holding at most {@code budgetCapacity};
+ * each hedge spends one. With the defaults at most about 10% extra requests are sent.
+ * </p>
+ * <p>
+ * While a {@code GET} is in flight, the caller waits and its attempts run on a pool of at most
+ * {@code maxThreads} threads, one per attempt. When every thread is busy, a {@code GET} runs unhedged on the
+ * calling thread and no further hedges are sent, so the pool never grows beyond its bound under load.
+ * </p>
+ * <p>
+ * Immutable; create instances through {@code builder()}. Every setting has a default.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HedgingConfig {
+
+    /**
+     * The latency percentile, between {@code 0} and {@code 1} (both exclusive), after which a hedge is sent.
+     */
+    @Builder.Default
+    private final double percentile = 0.95;
+
+    /**
+     * The number of most recent latencies the percentile is computed over.
+     */
+    @Builder.Default
+    private final int windowSize = 256;
+
+    /**
+     * The number of latencies that must be observed before the percentile is used.
+     */
+    @Builder.Default
+    private final int minimumSamples = 20;
+
+    /**
+     * The hedging delay used until {@code minimumSamples} latencies were observed.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration initialDelay = Duration.ofMillis(500);
+
+    /**
+     * The shortest hedging delay, however fast recent requests were.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration minimumDelay = Duration.ofMillis(5);
+
+    /**
+     * The hedging budget earned per request.
+     */
+    @Builder.Default
+    private final double budgetRatio = 0.1;
+
+    /**
+     * The maximum number of hedges that can be saved up.
+     */
+    @Builder.Default
+    private final int budgetCapacity = 10;
+
+    /**
+     * The maximum number of threads running hedged {@code GET} attempts.
+     */
+    @Builder.Default
+    private final int maxThreads = 64;
+}
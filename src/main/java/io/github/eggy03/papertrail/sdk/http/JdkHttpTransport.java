@@ -0,0 +1,70 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.time.Duration;
+
+/**
+ * Builds the {@link JdkClientHttpRequestFactory} used by {@link HttpServiceEngine}.
+ * <p>
+ * The SDK is compiled for Java 8, where {@code java.net.http} does not exist, so the
+ * {@code HttpClient} is configured reflectively. Spring itself requires a newer runtime,
+ * so the module is always present when this code runs.
+ * </p>
+ */
+@Slf4j
+final class JdkHttpTransport {
+
+    private static final String POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+    private JdkHttpTransport() {
+    }
+
+    @NotNull
+    static ClientHttpRequestFactory createRequestFactory(@NotNull HttpServiceEngineConfig config) {
+
+        applyPoolProperties(config);
+
+        JdkClientHttpRequestFactory factory;
+        try {
+            Class<?> clientClass = Class.forName("java.net.http.HttpClient");
+            Class<?> builderClass = Class.forName("java.net.http.HttpClient$Builder");
+            Class<?> versionClass = Class.forName("java.net.http.HttpClient$Version");
+
+            Object builder = clientClass.getMethod("newBuilder").invoke(null);
+            builderClass.getMethod("connectTimeout", Duration.class).invoke(builder, config.getConnectTimeout());
+            builderClass.getMethod("version", versionClass)
+                    .invoke(builder, versionClass.getField(config.isHttp2() ? "HTTP_2" : "HTTP_1_1").get(null));
+            Object httpClient = builderClass.getMethod("build").invoke(builder);
+
+            factory = JdkClientHttpRequestFactory.class.getConstructor(clientClass).newInstance(httpClient);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("java.net.http.HttpClient could not be configured", e);
+        }
+
+        factory.setReadTimeout(config.getReadTimeout());
+        factory.enableCompression(config.isAcceptCompressedResponses());
+        return factory;
+    }
+
+    private static void applyPoolProperties(HttpServiceEngineConfig config) {
+
+        if (config.getMaxIdleConnections() > 0)
+            setIfAbsent(POOL_SIZE_PROPERTY, String.valueOf(config.getMaxIdleConnections()));
+
+        // both properties are process-wide, so only touch them when explicitly configured
+        if (config.getKeepAlive() != null)
+            setIfAbsent(KEEP_ALIVE_PROPERTY, String.valueOf(Math.max(1, config.getKeepAlive().getSeconds())));
+    }
+
+    private static void setIfAbsent(String property, String value) {
+        if (System.getProperty(property) == null) {
+            System.setProperty(property, value);
+            log.debug("Set {}={}", property, value);
+        }
+    }
+}
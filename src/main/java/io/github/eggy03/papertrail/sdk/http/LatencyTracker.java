@@ -0,0 +1,52 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import java.util.Arrays;
+
+/**
+ * Tracks a percentile over the most recent request latencies.
+ * <p>
+ * The percentile is recomputed from a sorted copy of the window once every eighth of the window
+ * has been replaced, so reading it is cheap and it lags the live value only slightly.
+ * </p>
+ */
+final class LatencyTracker {
+
+    private final double percentile;
+    private final long[] window;
+    private final long[] sorted;
+    private final int minimumSamples;
+    private final int recomputeEvery;
+
+    private int index;
+    private int recorded;
+    private int sinceRecompute;
+    private long cached = -1;
+
+    LatencyTracker(double percentile, int windowSize, int minimumSamples) {
+        this.percentile = percentile;
+        this.window = new long[windowSize];
+        this.sorted = new long[windowSize];
+        this.minimumSamples = minimumSamples;
+        this.recomputeEvery = Math.max(1, windowSize / 8);
+    }
+
+    synchronized void record(long latencyNanos) {
+        window[index] = latencyNanos;
+        index = (index + 1) % window.length;
+        recorded = Math.min(recorded + 1, window.length);
+
+        if (recorded >= minimumSamples && (cached < 0 || ++sinceRecompute >= recomputeEvery)) {
+            System.arraycopy(window, 0, sorted, 0, recorded);
+            Arrays.sort(sorted, 0, recorded);
+            cached = sorted[Math.min(recorded - 1, (int) Math.ceil(percentile * recorded) - 1)];
+            sinceRecompute = 0;
+        }
+    }
+
+    /**
+     * @return the percentile in nanoseconds, or {@code -1} if fewer than the minimum number of samples were recorded
+     */
+    synchronized long percentileNanos() {
+        return cached;
+    }
+}
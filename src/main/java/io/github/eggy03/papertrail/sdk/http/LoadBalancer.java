@@ -0,0 +1,176 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Picks an endpoint per request and tracks the health of every endpoint.
+ */
+@Slf4j
+final class LoadBalancer {
+
+    private final Endpoint[] endpoints;
+    private final LoadBalancingStrategy strategy;
+    private final int failuresToEject;
+    private final long ejectionNanos;
+    private final LongSupplier nanoClock;
+
+    LoadBalancer(@NotNull List<String> baseUrls, @NotNull LoadBalancerConfig config) {
+        this(baseUrls, config, System::nanoTime);
+    }
+
+    LoadBalancer(@NotNull List<String> baseUrls, @NotNull LoadBalancerConfig config, @NotNull LongSupplier nanoClock) {
+
+        if (config.getConsecutiveFailuresToEject() < 1)
+            throw new IllegalArgumentException("Consecutive failures to eject must be positive");
+
+        this.endpoints = new Endpoint[baseUrls.size()];
+        for (int i = 0; i < endpoints.length; i++)
+            endpoints[i] = new Endpoint(baseUrls.get(i));
+
+        this.strategy = config.getStrategy();
+        this.failuresToEject = config.getConsecutiveFailuresToEject();
+        this.ejectionNanos = config.getEjectionDuration().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    int size() {
+        return endpoints.length;
+    }
+
+    /**
+     * Picks an endpoint and counts a request in flight on it; {@link #release(Endpoint, boolean)} must follow.
+     *
+     * @param excluded endpoints already tried for this request, or {@code null}
+     * @return the endpoint, or {@code null} if every endpoint is excluded
+     */
+    @Nullable
+    Endpoint acquire(@Nullable List<Endpoint> excluded) {
+
+        if (endpoints.length == 1) {
+            if (excluded != null && !excluded.isEmpty())
+                return null;
+            endpoints[0].outstanding.incrementAndGet();
+            return endpoints[0];
+        }
+
+        long now = nanoClock.getAsLong();
+        Endpoint chosen = pick(now, excluded, true);
+        if (chosen == null)
+            // every remaining endpoint is ejected, fall back to all of them rather than failing
+            chosen = pick(now, excluded, false);
+
+        if (chosen != null)
+            chosen.outstanding.incrementAndGet();
+        return chosen;
+    }
+
+    /**
+     * Ends a request on an endpoint and records its outcome.
+     *
+     * @param failure whether the endpoint was unreachable or answered with a server error
+     */
+    void release(@NotNull Endpoint endpoint, boolean failure) {
+        endpoint.outstanding.decrementAndGet();
+
+        synchronized (endpoint) {
+            if (!failure) {
+                endpoint.consecutiveFailures = 0;
+                return;
+            }
+
+            if (++endpoint.consecutiveFailures >= failuresToEject && endpoints.length > 1) {
+                long now = nanoClock.getAsLong();
+                if (endpoint.isAvailable(now))
+                    log.warn("Ejecting {} for {} ms after {} consecutive failures", endpoint.baseUrl, ejectionNanos / 1_000_000, endpoint.consecutiveFailures);
+                endpoint.ejected = true;
+                endpoint.ejectedUntilNanos = now + ejectionNanos;
+            }
+        }
+    }
+
+    /**
+     * Ends a request on an endpoint that was aborted before it completed, without recording an outcome.
+     */
+    void abandon(@NotNull Endpoint endpoint) {
+        endpoint.outstanding.decrementAndGet();
+    }
+
+    /**
+     * @return the base URLs of the endpoints that are not ejected
+     */
+    @NotNull
+    List<String> healthyBaseUrls() {
+        long now = nanoClock.getAsLong();
+        List<String> healthy = new ArrayList<>(endpoints.length);
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.isAvailable(now))
+                healthy.add(endpoint.baseUrl);
+        }
+        return Collections.unmodifiableList(healthy);
+    }
+
+    @Nullable
+    private Endpoint pick(long now, @Nullable List<Endpoint> excluded, boolean healthyOnly) {
+
+        int start = ThreadLocalRandom.current().nextInt(endpoints.length);
+
+        if (strategy == LoadBalancingStrategy.POWER_OF_TWO_CHOICES) {
+            Endpoint first = endpoints[start];
+            Endpoint second = endpoints[(start + 1 + ThreadLocalRandom.current().nextInt(endpoints.length - 1)) % endpoints.length];
+            boolean firstEligible = eligible(first, now, excluded, healthyOnly);
+            boolean secondEligible = eligible(second, now, excluded, healthyOnly);
+
+            if (firstEligible && secondEligible)
+                return second.outstanding.get() < first.outstanding.get() ? second : first;
+            // too few eligible endpoints to sample from, look at all of them
+        }
+
+        return scan(start, now, excluded, healthyOnly);
+    }
+
+    @Nullable
+    private Endpoint scan(int start, long now, @Nullable List<Endpoint> excluded, boolean healthyOnly) {
+        Endpoint best = null;
+        for (int i = 0; i < endpoints.length; i++) {
+            Endpoint candidate = endpoints[(start + i) % endpoints.length];
+            if (eligible(candidate, now, excluded, healthyOnly)
+                    && (best == null || candidate.outstanding.get() < best.outstanding.get()))
+                best = candidate;
+        }
+        return best;
+    }
+
+    private static boolean eligible(Endpoint endpoint, long now, @Nullable List<Endpoint> excluded, boolean healthyOnly) {
+        return (excluded == null || !excluded.contains(endpoint)) && (!healthyOnly || endpoint.isAvailable(now));
+    }
+
+    /**
+     * One base URL and its health
+     */
+    static final class Endpoint {
+
+        final String baseUrl;
+        private final AtomicInteger outstanding = new AtomicInteger();
+
+        private int consecutiveFailures;
+        private long ejectedUntilNanos;
+        private boolean ejected;
+
+        private Endpoint(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        private synchronized boolean isAvailable(long now) {
+            return !ejected || ejectedUntilNanos - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+
+/**
+ * Settings of the load balancing between the base URLs of an {@link HttpServiceEngine}.
+ * <p>
+ * An endpoint that fails {@code consecutiveFailuresToEject} requests in a row, by being unreachable or
+ * answering with a {@code 5xx} status, is ejected for {@code ejectionDuration}. When it is back, a single
+ * further failure ejects it again until a request succeeds. If every endpoint is ejected, all of them are
+ * used again rather than failing requests outright.
+ * </p>
+ * <p>
+ * Immutable; create instances through {@code builder()}. Every setting has a default. Has no effect on an
+ * engine with a single base URL.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class LoadBalancerConfig {
+
+    /**
+     * How the endpoint of each request is picked.
+     */
+    @NonNull
+    @Builder.Default
+    private final LoadBalancingStrategy strategy = LoadBalancingStrategy.POWER_OF_TWO_CHOICES;
+
+    /**
+     * The number of consecutive failures after which an endpoint is ejected.
+     */
+    @Builder.Default
+    private final int consecutiveFailuresToEject = 5;
+
+    /**
+     * How long an ejected endpoint receives no requests.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration ejectionDuration = Duration.ofSeconds(30);
+
+    /**
+     * Whether an idempotent request that failed on one endpoint is immediately sent to another one,
+     * trying each endpoint at most once.
+     */
+    @Builder.Default
+    private final boolean failover = true;
+}
@@ -0,0 +1,19 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+/**
+ * How an {@link HttpServiceEngine} with several base URLs picks the endpoint for a request.
+ */
+public enum LoadBalancingStrategy {
+
+    /**
+     * Picks the healthy endpoint with the fewest requests in flight.
+     */
+    LEAST_OUTSTANDING,
+
+    /**
+     * Picks two healthy endpoints at random and uses the one with fewer requests in flight.
+     * Nearly as good as {@link #LEAST_OUTSTANDING} without scanning every endpoint, and avoids
+     * every caller piling onto the same endpoint at once.
+     */
+    POWER_OF_TWO_CHOICES
+}
@@ -0,0 +1,159 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.metrics.HttpMetricsListener;
+import io.github.eggy03.papertrail.sdk.metrics.RequestOutcome;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports every exchange to an {@link HttpMetricsListener}.
+ * <p>
+ * The exchange is considered complete when its response is closed, so the reported duration and
+ * response size include reading the body.
+ * </p>
+ * <p>
+ * The path is reported as the template the engine stores in the {@link #PATH_TEMPLATE_ATTRIBUTE} request
+ * attribute, or, for requests without one, as the path with its numeric segments replaced by {@code {id}}.
+ * </p>
+ */
+@Slf4j
+final class MetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    /**
+     * Request attribute holding the path template to report
+     */
+    static final String PATH_TEMPLATE_ATTRIBUTE = MetricsInterceptor.class.getName() + ".pathTemplate";
+
+    private final HttpMetricsListener listener;
+
+    MetricsInterceptor(HttpMetricsListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    @NotNull
+    public ClientHttpResponse intercept(@NotNull HttpRequest request, byte[] body,
+                                        @NotNull ClientHttpRequestExecution execution) throws IOException {
+
+        String method = request.getMethod().name();
+        Object template = request.getAttributes().get(PATH_TEMPLATE_ATTRIBUTE);
+        String pathTemplate = template != null ? template.toString() : PathTemplates.of(request.getURI().getRawPath());
+
+        try {
+            listener.onRequestStart(method, pathTemplate);
+        } catch (RuntimeException e) {
+            log.warn("Metrics listener failed on request start", e);
+        }
+
+        long start = System.nanoTime();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            complete(method, pathTemplate, RequestOutcome.UNREACHABLE, 0, start, body.length, 0);
+            throw e;
+        }
+        return new MeasuredResponse(response, method, pathTemplate, start, body.length);
+    }
+
+    private void complete(String method, String pathTemplate, RequestOutcome outcome, int status,
+                          long start, long requestBytes, long responseBytes) {
+        try {
+            listener.onRequestComplete(method, pathTemplate, outcome, status, System.nanoTime() - start, requestBytes, responseBytes);
+        } catch (RuntimeException e) {
+            log.warn("Metrics listener failed on request completion", e);
+        }
+    }
+
+    private final class MeasuredResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final String method;
+        private final String pathTemplate;
+        private final long start;
+        private final long requestBytes;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private long responseBytes;
+        private InputStream body;
+
+        private MeasuredResponse(ClientHttpResponse delegate, String method, String pathTemplate, long start, long requestBytes) {
+            this.delegate = delegate;
+            this.method = method;
+            this.pathTemplate = pathTemplate;
+            this.start = start;
+            this.requestBytes = requestBytes;
+        }
+
+        @Override
+        @NotNull
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        @NotNull
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        @NotNull
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        @NotNull
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new FilterInputStream(delegate.getBody()) {
+                    @Override
+                    public int read() throws IOException {
+                        int value = super.read();
+                        if (value >= 0)
+                            responseBytes++;
+                        return value;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int read = super.read(buffer, offset, length);
+                        if (read > 0)
+                            responseBytes += read;
+                        return read;
+                    }
+                };
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            int status = 0;
+            try {
+                status = delegate.getStatusCode().value();
+            } catch (IOException e) {
+                log.debug("Could not read status code for metrics", e);
+            }
+
+            try {
+                delegate.close();
+            } finally {
+                if (completed.compareAndSet(false, true))
+                    complete(method, pathTemplate, RequestOutcome.fromStatus(status), status, start, requestBytes, responseBytes);
+            }
+        }
+    }
+}
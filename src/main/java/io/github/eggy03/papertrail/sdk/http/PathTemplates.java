@@ -0,0 +1,54 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Derives bounded-cardinality path templates from request paths.
+ */
+final class PathTemplates {
+
+    static final String ID_PLACEHOLDER = "{id}";
+
+    private PathTemplates() {
+    }
+
+    /**
+     * Replaces every purely numeric path segment (Discord snowflakes) with {@code {id}} and drops the query string.
+     *
+     * @param path a request path, e.g. {@code /api/v1/content/message/1234}
+     * @return the template, e.g. {@code /api/v1/content/message/{id}}
+     */
+    @NotNull
+    static String of(@NotNull String path) {
+
+        int end = path.indexOf('?');
+        if (end < 0)
+            end = path.length();
+
+        StringBuilder template = null;
+        int segmentStart = 0;
+
+        for (int i = 0; i <= end; i++) {
+            if (i < end && path.charAt(i) != '/')
+                continue;
+
+            boolean numeric = i > segmentStart;
+            for (int j = segmentStart; j < i && numeric; j++)
+                numeric = Character.isDigit(path.charAt(j));
+
+            if (numeric && template == null)
+                template = new StringBuilder(end).append(path, 0, segmentStart);
+
+            if (template != null) {
+                template.append(numeric ? ID_PLACEHOLDER : path.substring(segmentStart, i));
+                if (i < end)
+                    template.append('/');
+            }
+            segmentStart = i + 1;
+        }
+
+        if (template != null)
+            return template.toString();
+        return end == path.length() ? path : path.substring(0, end);
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The token bucket settings of one {@link EndpointGroup}.
+ * <p>
+ * The bucket holds up to {@code burstSize} permits and refills at {@code permitsPerSecond}.
+ * Every request, including retries, takes one permit.
+ * </p>
+ * <p>
+ * Immutable; create instances through {@code builder()}.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RateLimit {
+
+    /**
+     * The sustained request rate.
+     */
+    @Builder.Default
+    private final double permitsPerSecond = 10;
+
+    /**
+     * The maximum number of requests that can be sent at once after a quiet period.
+     */
+    @Builder.Default
+    private final int burstSize = 20;
+}
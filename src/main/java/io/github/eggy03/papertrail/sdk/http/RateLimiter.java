@@ -0,0 +1,112 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-{@link EndpointGroup} token buckets of an {@link HttpServiceEngine}.
+ *
+ * @see RateLimiterConfig
+ */
+@Slf4j
+final class RateLimiter {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    // values above this are epoch seconds rather than seconds until the reset
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private final Map<EndpointGroup, TokenBucket> buckets = new EnumMap<>(EndpointGroup.class);
+    private final long maxWaitNanos;
+    private final boolean adaptToResponseHeaders;
+
+    RateLimiter(@NotNull RateLimiterConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    RateLimiter(@NotNull RateLimiterConfig config, @NotNull LongSupplier nanoClock) {
+
+        if (config.getMaxWait().isNegative())
+            throw new IllegalArgumentException("Maximum wait must not be negative");
+
+        for (EndpointGroup group : EndpointGroup.values()) {
+            RateLimit limit = config.getLimits().getOrDefault(group, config.getDefaultLimit());
+            buckets.put(group, new TokenBucket(limit, nanoClock));
+        }
+        this.maxWaitNanos = config.getMaxWait().toNanos();
+        this.adaptToResponseHeaders = config.isAdaptToResponseHeaders();
+    }
+
+    /**
+     * Takes a permit for the group, waiting for it if allowed.
+     *
+     * @return {@code false} if no permit became available within the maximum wait or the thread was interrupted
+     */
+    boolean acquire(@NotNull EndpointGroup group) {
+
+        long waitNanos = buckets.get(group).reserve(maxWaitNanos);
+        if (waitNanos < 0)
+            return false;
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Restricts the group's bucket according to the rate limit information of a response.
+     */
+    void onResponse(@NotNull EndpointGroup group, int status, @Nullable HttpHeaders headers, @Nullable Duration retryAfter) {
+
+        if (!adaptToResponseHeaders)
+            return;
+
+        TokenBucket bucket = buckets.get(group);
+        if (status == TOO_MANY_REQUESTS && retryAfter != null)
+            bucket.pause(retryAfter.toNanos());
+
+        if (headers == null)
+            return;
+
+        Long remaining = firstLong(headers, "X-RateLimit-Remaining", "RateLimit-Remaining");
+        if (remaining == null)
+            return;
+
+        Long reset = firstLong(headers, "X-RateLimit-Reset", "RateLimit-Reset");
+        long resetSeconds = reset == null ? 1 : reset;
+        if (resetSeconds > EPOCH_SECONDS_THRESHOLD)
+            resetSeconds -= TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+
+        bucket.restrict(remaining, TimeUnit.SECONDS.toNanos(Math.max(0, resetSeconds)));
+    }
+
+    @Nullable
+    private static Long firstLong(HttpHeaders headers, String... names) {
+        for (String name : names) {
+            String value = headers.getFirst(name);
+            if (value == null)
+                continue;
+
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException ignored) {
+                log.debug("Ignoring malformed {} header: {}", name, value);
+            }
+        }
+        return null;
+    }
+}
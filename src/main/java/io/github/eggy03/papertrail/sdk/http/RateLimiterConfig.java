@@ -0,0 +1,58 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings of the {@link HttpServiceEngine}'s client-side rate limiter.
+ * <p>
+ * Each {@link EndpointGroup} has its own token bucket, configured through {@code limits} or
+ * falling back to {@code defaultLimit}. A request that finds its bucket empty waits for a permit
+ * for up to {@code maxWait}; if no permit becomes available in time, it fails immediately with a
+ * {@code 429 "Rate Limited"} {@link io.github.eggy03.papertrail.sdk.entity.ErrorEntity} without
+ * calling the API. Set {@code maxWait} to {@link Duration#ZERO} to never wait.
+ * </p>
+ * <p>
+ * If {@code adaptToResponseHeaders} is set, the {@code X-RateLimit-Remaining}/{@code X-RateLimit-Reset}
+ * (or {@code RateLimit-Remaining}/{@code RateLimit-Reset}) headers and the {@code Retry-After} header of
+ * {@code 429} responses further restrict the bucket until the API's window resets.
+ * </p>
+ * <p>
+ * Immutable; create instances through {@code builder()}. Every setting has a default.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RateLimiterConfig {
+
+    /**
+     * The limit of every group without an entry in {@code limits}.
+     */
+    @NonNull
+    @Builder.Default
+    private final RateLimit defaultLimit = RateLimit.builder().build();
+
+    /**
+     * Per-group limits overriding {@code defaultLimit}.
+     */
+    @Singular
+    private final Map<EndpointGroup, RateLimit> limits;
+
+    /**
+     * How long a request may wait for a permit before it is rejected.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration maxWait = Duration.ofSeconds(5);
+
+    /**
+     * Whether rate limit headers sent by the API restrict the buckets.
+     */
+    @Builder.Default
+    private final boolean adaptToResponseHeaders = true;
+}
@@ -0,0 +1,24 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Immutable request headers shared by every request the SDK sends, so that no call allocates its own.
+ */
+public final class RequestHeaders {
+
+    /**
+     * {@code Content-Type: application/json}; read-only
+     */
+    public static final HttpHeaders JSON = json();
+
+    private RequestHeaders() {
+    }
+
+    private static HttpHeaders json() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+}
@@ -0,0 +1,160 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.vavr.control.Either;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second, identical request when the first one is slower than the configured latency percentile,
+ * and returns whichever completes first.
+ * <p>
+ * Both attempts run on a bounded pool of daemon threads while the caller waits. The losing attempt is
+ * cancelled by interrupting its thread, which aborts its exchange. If the pool is exhausted, the request runs
+ * unhedged on the calling thread, and a hedge that finds no free thread is not sent.
+ * </p>
+ */
+@Slf4j
+final class RequestHedger {
+
+    private final LatencyTracker latencies;
+    private final RetryBudget budget;
+    private final long initialDelayNanos;
+    private final long minimumDelayNanos;
+    private final ExecutorService executor;
+    private final AtomicLong hedged = new AtomicLong();
+
+    RequestHedger(@NotNull HedgingConfig config) {
+
+        if (config.getPercentile() <= 0 || config.getPercentile() >= 1)
+            throw new IllegalArgumentException("Hedging percentile must be in (0, 1)");
+
+        if (config.getWindowSize() < 1 || config.getMinimumSamples() < 1 || config.getMinimumSamples() > config.getWindowSize())
+            throw new IllegalArgumentException("Window size and minimum samples must be positive, with minimum samples not above the window size");
+
+        if (config.getBudgetRatio() < 0 || config.getBudgetCapacity() < 0)
+            throw new IllegalArgumentException("Hedging budget must not be negative");
+
+        if (config.getMaxThreads() < 1)
+            throw new IllegalArgumentException("Hedging threads must be positive");
+
+        this.latencies = new LatencyTracker(config.getPercentile(), config.getWindowSize(), config.getMinimumSamples());
+        this.budget = new RetryBudget(config.getBudgetRatio(), config.getBudgetCapacity());
+        this.initialDelayNanos = config.getInitialDelay().toNanos();
+        this.minimumDelayNanos = config.getMinimumDelay().toNanos();
+        this.executor = createExecutor(config.getMaxThreads());
+    }
+
+    /**
+     * @return the number of hedges sent so far
+     */
+    long getHedged() {
+        return hedged.get();
+    }
+
+    /**
+     * @return the current hedging delay in nanoseconds
+     */
+    long delayNanos() {
+        long percentile = latencies.percentileNanos();
+        return Math.max(minimumDelayNanos, percentile < 0 ? initialDelayNanos : percentile);
+    }
+
+    @NotNull
+    <S> Either<ErrorEntity, S> execute(@NotNull String path, @NotNull Supplier<Either<ErrorEntity, S>> call) {
+
+        budget.onRequest();
+
+        long delayNanos = delayNanos();
+        ExecutorCompletionService<Either<ErrorEntity, S>> completion = new ExecutorCompletionService<>(executor);
+        Future<Either<ErrorEntity, S>> primary;
+        try {
+            primary = completion.submit(timed(call));
+        } catch (RejectedExecutionException e) {
+            log.debug("All hedging threads are busy, sending GET {} unhedged", path);
+            return call.get();
+        }
+        Future<Either<ErrorEntity, S>> hedge = null;
+
+        try {
+            Future<Either<ErrorEntity, S>> winner = completion.poll(delayNanos, TimeUnit.NANOSECONDS);
+
+            if (winner == null && budget.tryAcquireRetry()) {
+                try {
+                    hedge = completion.submit(timed(call));
+                    hedged.incrementAndGet();
+                    log.debug("No response for GET {} within {} ms, sent a hedged request", path, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+                } catch (RejectedExecutionException e) {
+                    log.debug("All hedging threads are busy, not hedging GET {}", path);
+                }
+            }
+
+            if (winner == null)
+                winner = completion.take();
+
+            try {
+                return winner.get();
+            } catch (ExecutionException e) {
+                // the first attempt to finish threw, fall back to the other one if there is one
+                if (hedge == null)
+                    throw rethrow(e);
+                return completion.take().get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Either.left(new ErrorEntity(503, "Request Interrupted", "Interrupted while waiting for a response", Instant.now().toString(), path));
+        } catch (ExecutionException e) {
+            throw rethrow(e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null)
+                hedge.cancel(true);
+        }
+    }
+
+    private <S> Callable<Either<ErrorEntity, S>> timed(Supplier<Either<ErrorEntity, S>> call) {
+        return () -> {
+            long start = System.nanoTime();
+            Either<ErrorEntity, S> response = call.get();
+            // a cancelled attempt says nothing about the API's latency
+            if (!Thread.currentThread().isInterrupted())
+                latencies.record(System.nanoTime() - start);
+            return response;
+        };
+    }
+
+    private static RuntimeException rethrow(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error)
+            throw (Error) cause;
+        if (cause instanceof RuntimeException)
+            return (RuntimeException) cause;
+        return new IllegalStateException(cause);
+    }
+
+    private static ExecutorService createExecutor(int maxThreads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "papertrail-hedge-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // no queue: an attempt either gets a thread right away or is rejected
+        return new ThreadPoolExecutor(0, maxThreads, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+    }
+}
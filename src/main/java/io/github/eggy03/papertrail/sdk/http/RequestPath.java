@@ -0,0 +1,99 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.Getter;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A request path together with the template it was expanded from.
+ * <p>
+ * Metrics report the template, e.g. {@code /api/v1/content/message/{messageId}}, rather than the path, so that
+ * the number of distinct values stays bounded whatever the IDs in the path look like.
+ * </p>
+ */
+@Getter
+public final class RequestPath {
+
+    /**
+     * The path to request, e.g. {@code /api/v1/content/message/1234}
+     */
+    private final String path;
+
+    /**
+     * The template the path was expanded from, e.g. {@code /api/v1/content/message/{messageId}}
+     */
+    private final String template;
+
+    private RequestPath(String path, String template) {
+        this.path = path;
+        this.template = template;
+    }
+
+    /**
+     * Expands a template by replacing its {@code {name}} placeholders, in order, with the given variables.
+     * The variables are inserted as they are, exactly as if they had been concatenated into the path.
+     *
+     * @param template  the path template, e.g. {@code /api/v1/content/message/{messageId}} (must not be {@code null})
+     * @param variables one value per placeholder (must not be {@code null})
+     * @return the expanded path
+     * @throws IllegalArgumentException if the number of variables does not match the number of placeholders
+     */
+    @NotNull
+    public static RequestPath of(@NonNull String template, @NonNull String... variables) {
+
+        if (variables.length == 0 && template.indexOf('{') < 0)
+            return new RequestPath(template, template);
+
+        StringBuilder path = new StringBuilder(template.length() + 24);
+        int used = 0;
+        int from = 0;
+
+        for (int open = template.indexOf('{'); open >= 0; open = template.indexOf('{', from)) {
+            int close = template.indexOf('}', open);
+            if (close < 0)
+                throw new IllegalArgumentException("Unclosed placeholder in path template " + template);
+            if (used == variables.length)
+                throw new IllegalArgumentException("Too few variables for path template " + template);
+
+            path.append(template, from, open).append(variables[used++]);
+            from = close + 1;
+        }
+
+        if (used != variables.length)
+            throw new IllegalArgumentException("Too many variables for path template " + template);
+
+        return new RequestPath(path.append(template, from, template.length()).toString(), template);
+    }
+
+    /**
+     * Wraps a path that was not built from a template. Its template is derived from the path by replacing numeric
+     * segments, such as Discord IDs, with {@code {id}}.
+     *
+     * @param path the path to request (must not be {@code null})
+     * @return the path
+     */
+    @NotNull
+    public static RequestPath ofPath(@NonNull String path) {
+        return new RequestPath(path, PathTemplates.of(path));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof RequestPath))
+            return false;
+        RequestPath that = (RequestPath) o;
+        return path.equals(that.path) && template.equals(that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * path.hashCode() + template.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
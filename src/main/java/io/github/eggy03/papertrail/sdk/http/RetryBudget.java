@@ -0,0 +1,30 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+/**
+ * Token bucket limiting the share of retries relative to requests.
+ */
+final class RetryBudget {
+
+    private final double ratio;
+    private final double capacity;
+
+    private double tokens;
+
+    RetryBudget(double ratio, int capacity) {
+        this.ratio = ratio;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+    synchronized void onRequest() {
+        tokens = Math.min(capacity, tokens + ratio);
+    }
+
+    synchronized boolean tryAcquireRetry() {
+        if (tokens < 1)
+            return false;
+
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Controls how {@link HttpServiceEngine} retries requests that failed transiently.
+ * <p>
+ * A request is retried when the API was unreachable or answered with one of the
+ * {@code retryableStatuses}, up to {@code maxAttempts} attempts in total.
+ * Waits grow exponentially from {@code initialBackoff} and are fully jittered; a {@code Retry-After}
+ * header replaces the computed wait. Only idempotent methods (GET, HEAD, OPTIONS, PUT, DELETE) are
+ * retried unless {@code retryNonIdempotent} is set.
+ * </p>
+ * <p>
+ * Retries are additionally limited by a budget shared by all requests of an engine: every request adds
+ * {@code budgetRatio} tokens, every retry takes one, and at most {@code budgetCapacity} tokens
+ * are kept. With the defaults, retries add at most 10% load over time, so a struggling API does not
+ * receive a storm of amplified retries.
+ * </p>
+ * <p>
+ * Immutable; create instances through {@code builder()}.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class RetryPolicy {
+
+    /**
+     * A policy that never retries.
+     */
+    public static final RetryPolicy NONE = RetryPolicy.builder().maxAttempts(1).build();
+
+    /**
+     * The maximum number of attempts, including the first one.
+     */
+    @Builder.Default
+    private final int maxAttempts = 3;
+
+    /**
+     * The upper bound of the wait before the first retry.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration initialBackoff = Duration.ofMillis(100);
+
+    /**
+     * The upper bound of any computed wait.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(5);
+
+    /**
+     * The factor by which the wait grows with every attempt.
+     */
+    @Builder.Default
+    private final double backoffMultiplier = 2.0;
+
+    /**
+     * Whether non-idempotent requests such as POST may be retried.
+     */
+    @Builder.Default
+    private final boolean retryNonIdempotent = false;
+
+    /**
+     * The longest {@code Retry-After} the engine will honour; a longer one ends the retries.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration maxRetryAfter = Duration.ofSeconds(30);
+
+    /**
+     * The tokens every request adds to the retry budget.
+     */
+    @Builder.Default
+    private final double budgetRatio = 0.1;
+
+    /**
+     * The maximum number of tokens in the retry budget, i.e. the largest burst of retries.
+     */
+    @Builder.Default
+    private final int budgetCapacity = 100;
+
+    /**
+     * HTTP statuses that are retried. A request that could not reach the API is reported as {@code 503}.
+     */
+    @NonNull
+    @Builder.Default
+    private final Set<Integer> retryableStatuses = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 502, 503, 504)));
+}
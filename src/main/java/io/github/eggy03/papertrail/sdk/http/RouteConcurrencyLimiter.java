@@ -0,0 +1,112 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the number of concurrent exchanges per host and port.
+ * <p>
+ * A slot is held from the moment the request is sent until its response is closed,
+ * so the response body is read within the limit as well.
+ * </p>
+ */
+final class RouteConcurrencyLimiter implements ClientHttpRequestInterceptor {
+
+    private final int maxPerRoute;
+    private final long acquireTimeoutNanos;
+    private final ConcurrentMap<String, Semaphore> routes = new ConcurrentHashMap<>();
+
+    RouteConcurrencyLimiter(int maxPerRoute, long acquireTimeoutNanos) {
+        this.maxPerRoute = maxPerRoute;
+        this.acquireTimeoutNanos = acquireTimeoutNanos;
+    }
+
+    @Override
+    @NotNull
+    public ClientHttpResponse intercept(@NotNull HttpRequest request, byte[] body,
+                                        @NotNull ClientHttpRequestExecution execution) throws IOException {
+
+        String route = route(request.getURI());
+        Semaphore slots = routes.computeIfAbsent(route, key -> new Semaphore(maxPerRoute));
+
+        try {
+            if (!slots.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS))
+                throw new SocketTimeoutException("Timed out waiting for a connection slot to " + route);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a connection slot to " + route, e);
+        }
+
+        try {
+            return new SlotReleasingResponse(execution.execute(request, body), slots);
+        } catch (IOException | RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    private static String route(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static final class SlotReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Semaphore slots;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private SlotReleasingResponse(ClientHttpResponse delegate, Semaphore slots) {
+            this.delegate = delegate;
+            this.slots = slots;
+        }
+
+        @Override
+        @NotNull
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        @NotNull
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        @NotNull
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        @NotNull
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true))
+                    slots.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Reservation-based token bucket; a caller that has to wait reserves its permit up front
+ * and sleeps outside the lock.
+ */
+final class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long refilledAtNanos;
+    private long pausedUntilNanos;
+
+    TokenBucket(RateLimit limit, LongSupplier nanoClock) {
+
+        if (limit.getPermitsPerSecond() <= 0 || limit.getBurstSize() < 1)
+            throw new IllegalArgumentException("Permits per second and burst size must be positive");
+
+        this.permitsPerNano = limit.getPermitsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = limit.getBurstSize();
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAtNanos = nanoClock.getAsLong();
+        this.pausedUntilNanos = refilledAtNanos;
+    }
+
+    /**
+     * @return how long the caller has to wait for its reserved permit in nanoseconds,
+     *         or {@code -1} if it would have to wait longer than {@code maxWaitNanos} (nothing is reserved then)
+     */
+    synchronized long reserve(long maxWaitNanos) {
+
+        long now = refill();
+        long waitNanos = Math.max(0, pausedUntilNanos - now);
+        if (tokens < 1)
+            waitNanos = Math.max(waitNanos, (long) Math.ceil((1 - tokens) / permitsPerNano));
+
+        if (waitNanos > maxWaitNanos)
+            return -1;
+
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Applies a quota reported by the API: at most {@code remaining} further permits
+     * until {@code resetNanos} from now.
+     */
+    synchronized void restrict(long remaining, long resetNanos) {
+
+        long now = refill();
+        tokens = Math.min(tokens, remaining);
+        if (remaining <= 0)
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + resetNanos);
+    }
+
+    /**
+     * Stops handing out permits for the given time, e.g. after a {@code 429} with {@code Retry-After}.
+     */
+    synchronized void pause(long nanos) {
+        pausedUntilNanos = Math.max(pausedUntilNanos, nanoClock.getAsLong() + nanos);
+    }
+
+    private long refill() {
+        long now = nanoClock.getAsLong();
+
+        // permits are not accrued while paused; once the API's window has reset, at least one request may go out
+        if (refilledAtNanos < pausedUntilNanos && pausedUntilNanos <= now)
+            tokens = Math.max(tokens, 1);
+
+        long from = Math.max(refilledAtNanos, Math.min(pausedUntilNanos, now));
+        tokens = Math.min(capacity, tokens + (now - from) * permitsPerNano);
+        refilledAtNanos = now;
+        return now;
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates virtual-thread-per-task executors on runtimes that support them.
+ * <p>
+ * The SDK is compiled for Java 8, so {@code Thread.ofVirtual()} and
+ * {@code Executors.newThreadPerTaskExecutor} are looked up reflectively once, when this class is loaded.
+ * </p>
+ */
+@Slf4j
+final class VirtualThreads {
+
+    @Nullable
+    private static final ThreadFactory FACTORY = createFactory();
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return FACTORY != null;
+    }
+
+    /**
+     * @return an executor that starts a new virtual thread for every task
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    @NotNull
+    static ExecutorService newExecutor() {
+
+        if (FACTORY == null)
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer");
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, FACTORY);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual-thread executor could not be created", e);
+        }
+    }
+
+    @Nullable
+    private static ThreadFactory createFactory() {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "papertrail-virtual-", 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Virtual threads are not available on this runtime: {}", e.toString());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package io.github.eggy03.papertrail.sdk.json;
+
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogRegistrationEntity;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.StreamReadFeature;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.core.exc.StreamReadException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Hand-written streaming JSON codec for the SDK's fixed-shape entities.
+ * <p>
+ * Reads and writes {@link MessageLogContentEntity}, {@link AuditLogRegistrationEntity},
+ * {@link MessageLogRegistrationEntity} and {@link ErrorEntity} directly with Jackson's
+ * {@link JsonParser}/{@link JsonGenerator}, bypassing data binding. Produces and accepts the same JSON as
+ * {@link PaperTrailJson#mapper()}: unknown properties are skipped, missing properties are {@code null}
+ * (or {@code 0} for the error status).
+ * </p>
+ */
+public final class EntityStreamingCodec {
+
+    // streams belong to the caller, e.g. the body of an HTTP exchange, so they are never closed here
+    private static final ObjectReader STREAM_READER = PaperTrailJson.mapper().reader()
+            .without(StreamReadFeature.AUTO_CLOSE_SOURCE);
+    private static final ObjectWriter STREAM_WRITER = PaperTrailJson.mapper().writer()
+            .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+
+    private EntityStreamingCodec() {
+    }
+
+    /**
+     * @param type an entity type
+     * @return whether this codec can read and write {@code type}
+     */
+    public static boolean supports(@NonNull Class<?> type) {
+        return type == MessageLogContentEntity.class || type == AuditLogRegistrationEntity.class
+                || type == MessageLogRegistrationEntity.class || type == ErrorEntity.class;
+    }
+
+    /**
+     * Reads an entity.
+     *
+     * @param json the UTF-8 encoded JSON
+     * @param type a {@link #supports(Class) supported} entity type
+     * @param <T>  the entity type
+     * @return the entity
+     * @throws JacksonException         if the input is not a JSON object of the expected shape
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    @NotNull
+    public static <T> T read(@NonNull byte[] json, @NonNull Class<T> type) {
+        try (JsonParser parser = PaperTrailJson.mapper().createParser(json)) {
+            return read(parser, type);
+        }
+    }
+
+    /**
+     * Reads an entity. The stream is not closed.
+     *
+     * @param json the UTF-8 encoded JSON
+     * @param type a {@link #supports(Class) supported} entity type
+     * @param <T>  the entity type
+     * @return the entity
+     * @throws JacksonException         if the input cannot be read or is not a JSON object of the expected shape
+     * @throws IllegalArgumentException if the type is not supported
+     */
+    @NotNull
+    public static <T> T read(@NonNull InputStream json, @NonNull Class<T> type) {
+        try (JsonParser parser = STREAM_READER.createParser(json)) {
+            return read(parser, type);
+        }
+    }
+
+    /**
+     * Writes an entity as UTF-8 encoded JSON.
+     *
+     * @param entity an entity of a {@link #supports(Class) supported} type
+     * @return the JSON
+     * @throws IllegalArgumentException if the entity type is not supported
+     */
+    @NotNull
+    public static byte[] writeAsBytes(@NonNull Object entity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        write(entity, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes an entity as UTF-8 encoded JSON. The stream is flushed but not closed.
+     *
+     * @param entity an entity of a {@link #supports(Class) supported} type
+     * @param out    the stream to write to
+     * @throws JacksonException         if the stream cannot be written
+     * @throws IllegalArgumentException if the entity type is not supported
+     */
+    public static void write(@NonNull Object entity, @NonNull OutputStream out) {
+        try (JsonGenerator generator = STREAM_WRITER.createGenerator(out)) {
+            writeEntity(generator, entity);
+            generator.flush();
+        }
+    }
+
+    private static <T> T read(JsonParser parser, Class<T> type) {
+
+        if (parser.nextToken() != JsonToken.START_OBJECT)
+            throw new StreamReadException(parser, "Expected a JSON object for " + type.getSimpleName());
+
+        if (type == MessageLogContentEntity.class)
+            return type.cast(readMessageLogContent(parser));
+        if (type == AuditLogRegistrationEntity.class || type == MessageLogRegistrationEntity.class)
+            return type.cast(readRegistration(parser, type));
+        if (type == ErrorEntity.class)
+            return type.cast(readError(parser));
+
+        throw new IllegalArgumentException("Unsupported type " + type.getName());
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static MessageLogContentEntity readMessageLogContent(JsonParser parser) {
+        String messageId = null;
+        String messageContent = null;
+        String authorId = null;
+
+        for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "messageId":
+                    messageId = string(parser);
+                    break;
+                case "messageContent":
+                    messageContent = string(parser);
+                    break;
+                case "authorId":
+                    authorId = string(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return new MessageLogContentEntity(messageId, messageContent, authorId);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static Object readRegistration(JsonParser parser, Class<?> type) {
+        String guildId = null;
+        String channelId = null;
+
+        for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+            parser.nextToken();
+            switch (name) {
+                case "guildId":
+                    guildId = string(parser);
+                    break;
+                case "channelId":
+                    channelId = string(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        return type == AuditLogRegistrationEntity.class
+                ? new AuditLogRegistrationEntity(guildId, channelId)
+                : new MessageLogRegistrationEntity(guildId, channelId);
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private static ErrorEntity readError(JsonParser parser) {
+        int status = 0;
+        String error = null;
+        String message = null;
+        String timeStamp = null;
+        String path = null;
+
+        for (String name = parser.nextName(); name != null; name = parser.nextName()) {
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "status":
+                    status = token == JsonToken.VALUE_NULL ? 0 : parser.getValueAsInt();
+                    break;
+                case "error":
+                    error = string(parser);
+                    break;
+                case "message":
+                    message = string(parser);
+                    break;
+                case "timeStamp":
+                    timeStamp = string(parser);
+                    break;
+                case "path":
+                    path = string(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return new ErrorEntity(status, error, message, timeStamp, path);
+    }
+
+    @Nullable
+    private static String string(JsonParser parser) {
+        if (parser.currentToken() == JsonToken.VALUE_NULL)
+            return null;
+        if (!parser.currentToken().isScalarValue())
+            throw new StreamReadException(parser, "Expected a scalar value for " + parser.currentName());
+        return parser.getString();
+    }
+
+    private static void writeEntity(JsonGenerator generator, Object entity) {
+
+        generator.writeStartObject();
+        if (entity instanceof MessageLogContentEntity) {
+            MessageLogContentEntity message = (MessageLogContentEntity) entity;
+            generator.writeStringProperty("messageId", message.getMessageId());
+            generator.writeStringProperty("messageContent", message.getMessageContent());
+            generator.writeStringProperty("authorId", message.getAuthorId());
+        } else if (entity instanceof AuditLogRegistrationEntity) {
+            AuditLogRegistrationEntity registration = (AuditLogRegistrationEntity) entity;
+            generator.writeStringProperty("guildId", registration.getGuildId());
+            generator.writeStringProperty("channelId", registration.getChannelId());
+        } else if (entity instanceof MessageLogRegistrationEntity) {
+            MessageLogRegistrationEntity registration = (MessageLogRegistrationEntity) entity;
+            generator.writeStringProperty("guildId", registration.getGuildId());
+            generator.writeStringProperty("channelId", registration.getChannelId());
+        } else if (entity instanceof ErrorEntity) {
+            ErrorEntity error = (ErrorEntity) entity;
+            generator.writeNumberProperty("status", error.getStatus());
+            generator.writeStringProperty("error", error.getError());
+            generator.writeStringProperty("message", error.getMessage());
+            generator.writeStringProperty("timeStamp", error.getTimeStamp());
+            generator.writeStringProperty("path", error.getPath());
+        } else {
+            throw new IllegalArgumentException("Unsupported type " + entity.getClass().getName());
+        }
+        generator.writeEndObject();
+    }
+}
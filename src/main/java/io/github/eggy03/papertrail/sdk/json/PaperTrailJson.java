@@ -0,0 +1,60 @@
+package io.github.eggy03.papertrail.sdk.json;
+
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogRegistrationEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Holds the Jackson {@link JsonMapper} shared by every {@link io.github.eggy03.papertrail.sdk.http.HttpServiceEngine}.
+ * <p>
+ * The mapper tolerates properties the SDK does not know, so that newer API versions remain readable, and skips the
+ * trailing-token check since every response body holds a single value. Its serializers and deserializers for the
+ * SDK's entities are resolved once when this class is loaded, so that the first request does not pay for
+ * introspecting the entities' {@code @JsonCreator} constructors.
+ * </p>
+ */
+@Slf4j
+public final class PaperTrailJson {
+
+    private static final JsonMapper MAPPER = createMapper();
+
+    private PaperTrailJson() {
+    }
+
+    /**
+     * @return the shared, thread-safe mapper; must not be reconfigured
+     */
+    @NotNull
+    public static JsonMapper mapper() {
+        return MAPPER;
+    }
+
+    private static JsonMapper createMapper() {
+
+        JsonMapper mapper = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS)
+                .build();
+
+        warm(mapper, new MessageLogContentEntity("0", "", "0"));
+        warm(mapper, new AuditLogRegistrationEntity("0", "0"));
+        warm(mapper, new MessageLogRegistrationEntity("0", "0"));
+        warm(mapper, new ErrorEntity(0, "", "", "", ""));
+        warm(mapper, new MessageLogContentEntity[]{new MessageLogContentEntity("0", "", "0")});
+        return mapper;
+    }
+
+    private static void warm(JsonMapper mapper, Object sample) {
+        try {
+            mapper.readValue(mapper.writeValueAsBytes(sample), sample.getClass());
+        } catch (RuntimeException e) {
+            // only a missed optimization; resolution is retried on first use
+            log.debug("Failed to pre-resolve JSON mapping of {}", sample.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.eggy03.papertrail.sdk.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives timing and size information for every HTTP exchange made by an
+ * {@link io.github.eggy03.papertrail.sdk.http.HttpServiceEngine HttpServiceEngine}.
+ * <p>
+ * Paths are reported as templates, so they are safe to use as metric tags. The SDK's clients pass the template
+ * of every request explicitly (e.g. {@code /api/v1/content/message/{messageId}}); for paths given without one,
+ * numeric segments such as Discord IDs are replaced by {@code {id}}.
+ * </p>
+ * <p>
+ * Methods are called on the requesting thread and must be thread-safe and fast.
+ * Exceptions thrown by a listener are logged and otherwise ignored.
+ * </p>
+ *
+ * @see MicrometerHttpMetricsListener
+ */
+public interface HttpMetricsListener {
+
+    /**
+     * A listener that records nothing
+     */
+    HttpMetricsListener NO_OP = new HttpMetricsListener() {
+    };
+
+    /**
+     * Called right before a request is sent.
+     *
+     * @param method       the HTTP method
+     * @param pathTemplate the request path template
+     */
+    default void onRequestStart(@NotNull String method, @NotNull String pathTemplate) {
+    }
+
+    /**
+     * Called once a request has finished, after its response body has been read.
+     *
+     * @param method        the HTTP method
+     * @param pathTemplate  the request path template
+     * @param outcome       how the request ended
+     * @param status        the HTTP status code, or {@code 0} if no response was received
+     * @param durationNanos the time from sending the request until the response was consumed
+     * @param requestBytes  the size of the request body
+     * @param responseBytes the number of response body bytes read
+     */
+    default void onRequestComplete(@NotNull String method, @NotNull String pathTemplate, @NotNull RequestOutcome outcome,
+                                   int status, long durationNanos, long requestBytes, long responseBytes) {
+    }
+
+    /**
+     * Called before the engine waits to retry a failed request.
+     *
+     * @param method       the HTTP method
+     * @param pathTemplate the request path template
+     * @param attempt      the number of the attempt that failed, starting at {@code 1}
+     * @param delayNanos   how long the engine waits before the next attempt
+     */
+    default void onRetry(@NotNull String method, @NotNull String pathTemplate, int attempt, long delayNanos) {
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.eggy03.papertrail.sdk.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link HttpMetricsListener} publishing to a Micrometer {@link MeterRegistry}.
+ * <p>
+ * Requires {@code io.micrometer:micrometer-core} on the classpath; the SDK declares it as an optional dependency.
+ * The following meters are registered, all tagged with {@code method} and {@code uri} (the path template):
+ * </p>
+ * <ul>
+ *     <li>{@code papertrail.client.requests} - timer, additionally tagged with {@code outcome} and {@code status}</li>
+ *     <li>{@code papertrail.client.requests.active} - gauge of requests currently in flight</li>
+ *     <li>{@code papertrail.client.request.size} - distribution summary of request body bytes</li>
+ *     <li>{@code papertrail.client.response.size} - distribution summary of response body bytes</li>
+ *     <li>{@code papertrail.client.retries} - counter of retried requests</li>
+ * </ul>
+ */
+public class MicrometerHttpMetricsListener implements HttpMetricsListener {
+
+    private static final String PREFIX = "papertrail.client.";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<Tags, AtomicInteger> active = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code MicrometerHttpMetricsListener}.
+     *
+     * @param registry the registry meters are registered with (must not be {@code null})
+     */
+    public MicrometerHttpMetricsListener(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onRequestStart(@NotNull String method, @NotNull String pathTemplate) {
+        activeRequests(method, pathTemplate).incrementAndGet();
+    }
+
+    @Override
+    public void onRequestComplete(@NotNull String method, @NotNull String pathTemplate, @NotNull RequestOutcome outcome,
+                                  int status, long durationNanos, long requestBytes, long responseBytes) {
+
+        activeRequests(method, pathTemplate).decrementAndGet();
+
+        Tags tags = Tags.of("method", method, "uri", pathTemplate);
+
+        Timer.builder(PREFIX + "requests")
+                .description("PaperTrail API requests")
+                .tags(tags)
+                .tag("outcome", outcome.name())
+                .tag("status", String.valueOf(status))
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder(PREFIX + "request.size")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry)
+                .record(requestBytes);
+
+        DistributionSummary.builder(PREFIX + "response.size")
+                .baseUnit("bytes")
+                .tags(tags)
+                .register(registry)
+                .record(responseBytes);
+    }
+
+    @Override
+    public void onRetry(@NotNull String method, @NotNull String pathTemplate, int attempt, long delayNanos) {
+        Counter.builder(PREFIX + "retries")
+                .tags("method", method, "uri", pathTemplate)
+                .register(registry)
+                .increment();
+    }
+
+    private AtomicInteger activeRequests(String method, String pathTemplate) {
+        return active.computeIfAbsent(Tags.of("method", method, "uri", pathTemplate), tags ->
+                registry.gauge(PREFIX + "requests.active", tags, new AtomicInteger()));
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.eggy03.papertrail.sdk.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Classifies how an HTTP request to the PaperTrail API ended.
+ */
+public enum RequestOutcome {
+
+    /**
+     * The API answered with a {@code 1xx}, {@code 2xx} or {@code 3xx} status.
+     */
+    SUCCESS,
+
+    /**
+     * The API answered with a {@code 4xx} status.
+     */
+    CLIENT_ERROR,
+
+    /**
+     * The API answered with a {@code 5xx} status.
+     */
+    SERVER_ERROR,
+
+    /**
+     * No response was received, e.g. because the connection failed or timed out.
+     */
+    UNREACHABLE;
+
+    /**
+     * @param status an HTTP status code
+     * @return the outcome corresponding to the status code
+     */
+    @NotNull
+    public static RequestOutcome fromStatus(int status) {
+        if (status >= 500)
+            return SERVER_ERROR;
+        if (status >= 400)
+            return CLIENT_ERROR;
+        return SUCCESS;
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.eggy03.papertrail.sdk.reactive;
+
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestHeaders;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
+import io.vavr.control.Either;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive client for managing audit log registrations via the PaperTrail API.
+ * <p>
+ * Every method returns a cold {@link Mono}: nothing is sent until it is subscribed to. Requests run on the
+ * {@link AsyncHttpServiceEngine}, with the same error mapping as the blocking clients.
+ * </p>
+ * <p>
+ * Requires {@code io.projectreactor:reactor-core} on the classpath.
+ * </p>
+ */
+@Slf4j
+public class ReactiveAuditLogRegistrationClient {
+
+    private static final String REGISTRATION_PATH = "/api/v1/log/audit";
+
+    private final AsyncHttpServiceEngine asyncEngine;
+
+    /**
+     * Creates a new {@code ReactiveAuditLogRegistrationClient}.
+     *
+     * @param baseUrl the base URL of the PaperTrail API (must not be {@code null} or blank)
+     * @throws ApiBaseUrlException if the base URL is {@code null} or empty
+     */
+    public ReactiveAuditLogRegistrationClient(@NonNull String baseUrl) {
+        this(new HttpServiceEngine(baseUrl));
+    }
+
+    /**
+     * Creates a new {@code ReactiveAuditLogRegistrationClient} on an existing engine.
+     *
+     * @param httpServiceEngine the engine (must not be {@code null})
+     */
+    public ReactiveAuditLogRegistrationClient(@NonNull HttpServiceEngine httpServiceEngine) {
+        this(new AsyncHttpServiceEngine(httpServiceEngine));
+    }
+
+    /**
+     * Creates a new {@code ReactiveAuditLogRegistrationClient} whose requests run on the given engine.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     */
+    public ReactiveAuditLogRegistrationClient(@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine) {
+        this.asyncEngine = asyncHttpServiceEngine;
+    }
+
+    /**
+     * Registers a guild for audit logging.
+     *
+     * @param guildId   the Discord guild ID (must not be {@code null})
+     * @param channelId the Discord channel ID where audit logs should be sent (must not be {@code null})
+     * @return a {@link Mono} emitting the registration, or the {@link ErrorEntity} describing the failure
+     */
+    @NotNull
+    public Mono<Either<ErrorEntity, AuditLogRegistrationEntity>> registerGuild(@NonNull String guildId, @NonNull String channelId) {
+
+        return Mono.fromFuture(() -> asyncEngine.makeRequestWithBodyAsync(
+                HttpMethod.POST,
+                REGISTRATION_PATH,
+                RequestHeaders.JSON,
+                new AuditLogRegistrationEntity(guildId, channelId),
+                AuditLogRegistrationEntity.class
+        )).doOnNext(response -> response.peekLeft(error -> log.debug("Failed to register guild for audit logging.\nAPI Response: {}", error)));
+    }
+
+    /**
+     * Retrieves the audit log registration for a guild.
+     *
+     * @param guildId the Discord guild ID (must not be {@code null})
+     * @return a {@link Mono} emitting the registration, or the {@link ErrorEntity} describing why it could not be
+     *         retrieved, with status {@code 404} if the guild is not registered
+     */
+    @NotNull
+    public Mono<Either<ErrorEntity, AuditLogRegistrationEntity>> getRegisteredGuild(@NonNull String guildId) {
+
+        return Mono.fromFuture(() -> asyncEngine.makeRequestAsync(
+                HttpMethod.GET,
+                RequestPath.of(REGISTRATION_PATH + "/{guildId}", guildId),
+                RequestHeaders.JSON,
+                AuditLogRegistrationEntity.class
+        )).doOnNext(response -> response.peekLeft(error -> log.debug("No guild of the ID: {} is registered.\nAPI Response: {}", guildId, error)));
+    }
+
+    /**
+     * Deletes the audit log registration for a guild.
+     *
+     * @param guildId the Discord guild ID (must not be {@code null})
+     * @return a {@link Mono} emitting a {@code Right} holding {@code null} on success, or the {@link ErrorEntity}
+     *         describing the failure
+     */
+    @NotNull
+    public Mono<Either<ErrorEntity, Void>> deleteRegisteredGuild(@NonNull String guildId) {
+
+        return Mono.fromFuture(() -> asyncEngine.makeRequestAsync(
+                HttpMethod.DELETE,
+                RequestPath.of(REGISTRATION_PATH + "/{guildId}", guildId),
+                RequestHeaders.JSON,
+                Void.class
+        )).doOnNext(response -> response.peekLeft(error -> log.debug("Failed to delete registered guild for audit logging.\nAPI Response: {}", error)));
+    }
+
+}
@@ -0,0 +1,159 @@
+package io.github.eggy03.papertrail.sdk.reactive;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestHeaders;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
+import io.vavr.control.Either;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive client for logging, retrieving, updating and deleting message content via the PaperTrail API.
+ * <p>
+ * Every method returns a cold publisher: nothing is sent until it is subscribed to, and each subscription
+ * sends its own request. Requests run on the {@link AsyncHttpServiceEngine}, so retries, rate limiting and
+ * circuit breaking configured on the underlying {@link HttpServiceEngine} apply unchanged. Cancelling a
+ * subscription cancels the pending future but not a request that is already on the wire.
+ * </p>
+ * <p>
+ * Requires {@code io.projectreactor:reactor-core} on the classpath.
+ * </p>
+ */
+@Slf4j
+public class ReactiveMessageLogContentClient {
+
+    private static final String MESSAGE_PATH = "/api/v1/content/message";
+
+    private final AsyncHttpServiceEngine asyncEngine;
+
+    /**
+     * Creates a new {@code ReactiveMessageLogContentClient}.
+     *
+     * @param baseUrl the base URL of the PaperTrail API (must not be {@code null} or blank)
+     * @throws ApiBaseUrlException if the base URL is {@code null} or empty
+     */
+    public ReactiveMessageLogContentClient(@NonNull String baseUrl) {
+        this(new HttpServiceEngine(baseUrl));
+    }
+
+    /**
+     * Creates a new {@code ReactiveMessageLogContentClient} on an existing engine.
+     *
+     * @param httpServiceEngine the engine (must not be {@code null})
+     */
+    public ReactiveMessageLogContentClient(@NonNull HttpServiceEngine httpServiceEngine) {
+        this(new AsyncHttpServiceEngine(httpServiceEngine));
+    }
+
+    /**
+     * Creates a new {@code ReactiveMessageLogContentClient} whose requests run on the given engine.
+     *
+     * @param asyncHttpServiceEngine the asynchronous engine (must not be {@code null})
+     */
+    public ReactiveMessageLogContentClient(@NonNull AsyncHttpServiceEngine asyncHttpServiceEngine) {
+        this.asyncEngine = asyncHttpServiceEngine;
+    }
+
+    /**
+     * Logs a new message's content.
+     *
+     * @param message the message to log (must not be {@code null})
+     * @return a {@link Mono} emitting the logged message, or the {@link ErrorEntity} describing the failure
+     */
+    @NotNull
+    public Mono<Either<ErrorEntity, MessageLogContentEntity>> logMessage(@NonNull MessageLogContentEntity message) {
+
+        return Mono.fromFuture(() -> asyncEngine.makeRequestWithBodyAsync(
+                HttpMethod.POST,
+                MESSAGE_PATH,
+                RequestHeaders.JSON,
+                message,
+                MessageLogContentEntity.class
+        )).doOnNext(response -> response.peekLeft(error -> log.debug("Failed to log message with ID {}.\nAPI Response: {}", message.getMessageId(), error)));
+    }
+
+    /**
+     * Logs every message of a stream, with at most {@code maxInFlight} requests in flight.
+     * <p>
+     * Messages are requested from {@code messages} only as requests complete, so a fast source is slowed down
+     * to the pace of the API rather than buffered. Results are emitted in the order of the source messages;
+     * a failed message yields a {@code Left} without ending the stream.
+     * </p>
+     *
+     * @param messages    the messages to log (must not be {@code null})
+     * @param maxInFlight the maximum number of concurrent requests (must be positive)
+     * @return a {@link Flux} emitting one result per source message
+     * @throws IllegalArgumentException if {@code maxInFlight} is not positive
+     */
+    @NotNull
+    public Flux<Either<ErrorEntity, MessageLogContentEntity>> logMessages(@NonNull Publisher<MessageLogContentEntity> messages, int maxInFlight) {
+
+        if (maxInFlight < 1)
+            throw new IllegalArgumentException("Maximum requests in flight must be positive");
+
+        return Flux.from(messages).flatMapSequential(this::logMessage, maxInFlight, 1);
+    }
+
+    /**
+     * Retrieves a logged message by its ID.
+     *
+     * @param messageId the Discord message ID (must not be {@code null})
+     * @return a {@link Mono} emitting the message, or the {@link ErrorEntity} describing why it could not be retrieved
+     */
+    @NotNull
+    public Mono<Either<ErrorEntity, MessageLogContentEntity>> retrieveMessage(@NonNull String messageId) {
+
+        return Mono.fromFuture(() -> asyncEngine.makeRequestAsync(
+                HttpMethod.GET,
+                RequestPath.of(MESSAGE_PATH + "/{messageId}", messageId),
+                RequestHeaders.JSON,
+                MessageLogContentEntity.class
+        )).doOnNext(response -> response.peekLeft(error -> log.debug("No message of the ID: {} is logged.\nAPI Response: {}", messageId, error)));
+    }
+
+    /**
+     * Updates a logged message's content.
+     *
+     * @param message the updated message (must not be {@code null})
+     * @return a {@link Mono} emitting the updated message, or the {@link ErrorEntity} describing the failure
+     */
+    @NotNull
+    public Mono<Either<ErrorEntity, MessageLogContentEntity>> updateMessage(@NonNull MessageLogContentEntity message) {
+
+        return Mono.fromFuture(() -> asyncEngine.makeRequestWithBodyAsync(
+                HttpMethod.PUT,
+                MESSAGE_PATH,
+                RequestHeaders.JSON,
+                message,
+                MessageLogContentEntity.class
+        )).doOnNext(response -> response.peekLeft(error -> log.debug("Failed to update message with ID {}.\nAPI Response: {}", message.getMessageId(), error)));
+    }
+
+    /**
+     * Deletes a logged message.
+     *
+     * @param messageId the Discord message ID (must not be {@code null})
+     * @return a {@link Mono} emitting a {@code Right} holding {@code null} on success, or the {@link ErrorEntity}
+     *         describing the failure
+     */
+    @NotNull
+    public Mono<Either<ErrorEntity, Void>> deleteMessage(@NonNull String messageId) {
+
+        return Mono.fromFuture(() -> asyncEngine.makeRequestAsync(
+                HttpMethod.DELETE,
+                RequestPath.of(MESSAGE_PATH + "/{messageId}", messageId),
+                RequestHeaders.JSON,
+                Void.class
+        )).doOnNext(response -> response.peekLeft(error -> log.debug("Failed to delete message with ID {}.\nAPI Response: {}", messageId, error)));
+    }
+
+}
@@ -0,0 +1,447 @@
+package io.github.eggy03.papertrail.sdk.spool;
+
+import io.github.eggy03.papertrail.sdk.batch.MessageLogBatchCallback;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.http.CircuitState;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestHeaders;
+import io.vavr.control.Either;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A persistent, disk-backed queue of messages waiting to be logged, replayed in order once the API is reachable.
+ * <p>
+ * Messages are appended to memory-mapped segment files in the configured {@code directory}.
+ * Each record carries a CRC32 checksum; when a segment is full, a new one is started. A background thread
+ * posts the oldest message to {@code /api/v1/content/message}; on success or permanent rejection it moves on,
+ * on a transient failure it waits {@code replayInterval} and tries the same message
+ * again. Fully replayed segments are deleted.
+ * </p>
+ * <p>
+ * The replay position is persisted, so a spool reopened on the same directory after a crash or restart
+ * continues where it left off. Records torn by a crash are discarded on recovery. Delivery is at-least-once:
+ * a message replayed right before a crash may be sent again.
+ * </p>
+ * <p>
+ * Typical use is to {@link #append(MessageLogContentEntity) append} messages whose
+ * {@link io.github.eggy03.papertrail.sdk.client.MessageLogContentClient#logMessage(String, String, String) logMessage}
+ * call failed, or to route failures of a write-behind buffer here via {@link #spoolingCallback(MessageLogBatchCallback)}.
+ * </p>
+ * <p>
+ * Thread-safe. {@link #close()} stops the replayer and leaves unreplayed messages on disk. A replay still in
+ * flight when the spool is closed is interrupted after a short grace period; its message stays spooled.
+ * </p>
+ */
+@Slf4j
+public class MessageLogSpool implements AutoCloseable {
+
+    private static final String MESSAGE_PATH = "/api/v1/content/message";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String CURSOR_FILE = "cursor";
+    // how long close() lets an in-flight replay finish before interrupting it, and then waits for the replayer to stop
+    private static final long CLOSE_GRACE_MILLIS = 1000;
+
+    private final HttpServiceEngine engine;
+    private final MessageLogSpoolConfig config;
+    private final Deque<SpoolSegment> segments = new ArrayDeque<>();
+    private final FileChannel cursorChannel;
+    private final MappedByteBuffer cursor;
+    private final Thread replayer;
+
+    // read position within the oldest segment
+    private int readPosition;
+    private long pending;
+
+    private volatile boolean running = true;
+
+    /**
+     * Opens the spool in the configured directory, recovering any messages left by a previous run,
+     * and starts replaying them.
+     *
+     * @param engine the engine used to replay messages (must not be {@code null})
+     * @param config the spool settings (must not be {@code null})
+     * @throws IllegalArgumentException if the segment size or maximum segment count is not positive
+     * @throws UncheckedIOException     if the directory or its files cannot be opened
+     */
+    public MessageLogSpool(@NonNull HttpServiceEngine engine, @NonNull MessageLogSpoolConfig config) {
+
+        if (config.getSegmentSize() <= SpoolSegment.HEADER_BYTES || config.getMaxSegments() < 1)
+            throw new IllegalArgumentException("Segment size and maximum segment count must be positive");
+
+        this.engine = engine;
+        this.config = config;
+
+        try {
+            Files.createDirectories(config.getDirectory());
+            this.cursorChannel = FileChannel.open(config.getDirectory().resolve(CURSOR_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.cursor = cursorChannel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES + Integer.BYTES);
+            recover();
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException("Failed to open message log spool in " + config.getDirectory(), e);
+        }
+
+        this.replayer = new Thread(this::runReplayer, "papertrail-spool-replayer");
+        this.replayer.setDaemon(true);
+        this.replayer.start();
+    }
+
+    /**
+     * Appends a message to the spool.
+     *
+     * @param message the message to log later (must not be {@code null})
+     * @return {@code true} if the message was spooled, {@code false} if the spool is closed, full or not writable
+     */
+    public boolean append(@NonNull MessageLogContentEntity message) {
+
+        byte[] payload = encode(message);
+
+        synchronized (this) {
+            if (!running)
+                return false;
+
+            try {
+                SpoolSegment segment = segments.peekLast();
+                if (segment == null || !segment.fits(payload.length)) {
+                    if (SpoolSegment.HEADER_BYTES + payload.length > config.getSegmentSize()) {
+                        log.warn("Message with ID {} does not fit into a spool segment", message.getMessageId());
+                        return false;
+                    }
+                    if (segments.size() >= config.getMaxSegments()) {
+                        log.warn("Spool is full, message with ID {} was not spooled", message.getMessageId());
+                        return false;
+                    }
+                    segment = newSegment(segment == null ? readCursorSequence() : segment.sequence + 1);
+                }
+
+                segment.append(payload, config.isForceOnAppend());
+                pending++;
+                notifyAll();
+                return true;
+            } catch (IOException e) {
+                log.error("Failed to spool message with ID {}", message.getMessageId(), e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * @return the number of messages appended since the spool was opened or recovered that were not replayed yet
+     */
+    public synchronized long pending() {
+        return pending;
+    }
+
+    /**
+     * Wraps a write-behind callback so that messages which failed transiently are appended to this spool.
+     *
+     * @param delegate the callback to forward every outcome to (must not be {@code null})
+     * @return a callback for {@link io.github.eggy03.papertrail.sdk.batch.MessageLogBatchConfig}
+     */
+    @NotNull
+    public MessageLogBatchCallback spoolingCallback(@NonNull MessageLogBatchCallback delegate) {
+        return new MessageLogBatchCallback() {
+            @Override
+            public void onSuccess(@NotNull MessageLogContentEntity message) {
+                delegate.onSuccess(message);
+            }
+
+            @Override
+            public void onFailure(@NotNull MessageLogContentEntity message, @NotNull ErrorEntity error) {
+                if (isTransient(error))
+                    append(message);
+                delegate.onFailure(message, error);
+            }
+        };
+    }
+
+    /**
+     * Stops the replayer and closes the segment files. Messages not replayed yet stay on disk.
+     * <p>
+     * A replayer waiting between replays is woken at once. A replay in flight is given a second to
+     * complete before the replayer is interrupted.
+     * </p>
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            running = false;
+            notifyAll();
+        }
+
+        try {
+            replayer.join(CLOSE_GRACE_MILLIS);
+            if (replayer.isAlive()) {
+                replayer.interrupt();
+                replayer.join(CLOSE_GRACE_MILLIS);
+            }
+            if (replayer.isAlive())
+                log.warn("Spool replayer did not stop in time, closing the spool anyway");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            closeQuietly();
+        }
+    }
+
+    private void runReplayer() {
+
+        long intervalNanos = config.getReplayInterval().toNanos();
+
+        while (running) {
+            try {
+                MessageLogContentEntity message = awaitNext();
+                if (message == null)
+                    continue;
+
+                if (engine.getCircuitState() == CircuitState.OPEN) {
+                    pause(intervalNanos);
+                    continue;
+                }
+
+                Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequestWithBody(
+                        HttpMethod.POST,
+                        MESSAGE_PATH,
+                        RequestHeaders.JSON,
+                        message,
+                        MessageLogContentEntity.class
+                );
+
+                if (response.isRight()) {
+                    advance();
+                    notifySuccess(message);
+                } else if (!isTransient(response.getLeft())) {
+                    log.warn("API rejected spooled message with ID {}, dropping it.\nAPI Response: {}", message.getMessageId(), response.getLeft());
+                    advance();
+                    notifyFailure(message, response.getLeft());
+                } else {
+                    log.debug("Replay of spooled message with ID {} failed, retrying later", message.getMessageId());
+                    pause(intervalNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.error("Spool replay failed", e);
+                try {
+                    pause(intervalNanos);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the oldest message not replayed yet, or {@code null} if the spool is closing or was idle for a while
+     */
+    @Nullable
+    private synchronized MessageLogContentEntity awaitNext() throws InterruptedException, IOException {
+
+        while (running) {
+            SpoolSegment oldest = segments.peekFirst();
+            if (oldest != null && readPosition < oldest.writePosition())
+                return decode(oldest.read(readPosition));
+
+            if (oldest != null && segments.size() > 1) {
+                // the oldest segment is fully replayed and no longer written to
+                segments.removeFirst();
+                deleteSegment(oldest);
+                readPosition = 0;
+                writeCursor(segments.peekFirst().sequence, 0);
+                continue;
+            }
+
+            wait(config.getReplayInterval().toMillis() + 1);
+        }
+        return null;
+    }
+
+    /**
+     * Waits between replays; returns early once the spool is closing.
+     */
+    private synchronized void pause(long nanos) throws InterruptedException {
+        long deadline = System.nanoTime() + nanos;
+        for (long remaining = nanos; running && remaining > 0; remaining = deadline - System.nanoTime())
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+    }
+
+    private synchronized void advance() {
+        SpoolSegment oldest = segments.peekFirst();
+        if (oldest == null)
+            return;
+
+        readPosition += SpoolSegment.HEADER_BYTES + oldest.read(readPosition).length;
+        pending--;
+        writeCursor(oldest.sequence, readPosition);
+    }
+
+    /**
+     * Reopens the segment files left in the directory, dropping those that were fully replayed.
+     */
+    private void recover() throws IOException {
+
+        List<Long> sequences = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(config.getDirectory(), SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    sequences.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring unexpected file {} in spool directory", file);
+                }
+            }
+        }
+        Collections.sort(sequences);
+
+        long cursorSequence = readCursorSequence();
+        int cursorPosition = cursor.getInt(Long.BYTES);
+
+        for (long sequence : sequences) {
+            Path path = segmentPath(sequence);
+            if (sequence < cursorSequence) {
+                Files.deleteIfExists(path);
+                continue;
+            }
+
+            SpoolSegment segment = SpoolSegment.recover(sequence, path);
+            segments.addLast(segment);
+
+            int position = sequence == cursorSequence ? Math.min(cursorPosition, segment.writePosition()) : 0;
+            for (; position < segment.writePosition(); pending++)
+                position += SpoolSegment.HEADER_BYTES + segment.read(position).length;
+        }
+
+        SpoolSegment oldest = segments.peekFirst();
+        readPosition = oldest != null && oldest.sequence == cursorSequence ? Math.min(cursorPosition, oldest.writePosition()) : 0;
+        if (oldest != null)
+            writeCursor(oldest.sequence, readPosition);
+
+        if (pending > 0)
+            log.info("Recovered {} spooled messages from {}", pending, config.getDirectory());
+    }
+
+    private SpoolSegment newSegment(long sequence) throws IOException {
+        SpoolSegment segment = SpoolSegment.create(sequence, segmentPath(sequence), config.getSegmentSize());
+        if (segments.isEmpty()) {
+            readPosition = 0;
+            writeCursor(sequence, 0);
+        }
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private void deleteSegment(SpoolSegment segment) throws IOException {
+        segment.close();
+        // on some platforms a mapped file cannot be deleted until unmapped; it is then removed on the next recovery
+        try {
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            log.debug("Could not delete replayed spool segment {} yet", segment.path, e);
+        }
+    }
+
+    private long readCursorSequence() {
+        return cursor.getLong(0);
+    }
+
+    private void writeCursor(long sequence, int position) {
+        cursor.putLong(0, sequence);
+        cursor.putInt(Long.BYTES, position);
+    }
+
+    private Path segmentPath(long sequence) {
+        return config.getDirectory().resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private void closeQuietly() {
+        for (SpoolSegment segment : segments) {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Failed to close spool segment {}", segment.path, e);
+            }
+        }
+        segments.clear();
+
+        try {
+            if (cursor != null)
+                cursor.force();
+            if (cursorChannel != null)
+                cursorChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close spool cursor", e);
+        }
+    }
+
+    private void notifySuccess(MessageLogContentEntity message) {
+        try {
+            config.getCallback().onSuccess(message);
+        } catch (RuntimeException e) {
+            log.warn("Spool callback failed for message with ID {}", message.getMessageId(), e);
+        }
+    }
+
+    private void notifyFailure(MessageLogContentEntity message, ErrorEntity error) {
+        try {
+            config.getCallback().onFailure(message, error);
+        } catch (RuntimeException e) {
+            log.warn("Spool callback failed for message with ID {}", message.getMessageId(), e);
+        }
+    }
+
+    private static boolean isTransient(@Nullable ErrorEntity error) {
+        return error == null || error.getStatus() >= 500 || error.getStatus() == 408 || error.getStatus() == 429;
+    }
+
+    private static byte[] encode(MessageLogContentEntity message) {
+        byte[] messageId = message.getMessageId().getBytes(StandardCharsets.UTF_8);
+        byte[] content = message.getMessageContent().getBytes(StandardCharsets.UTF_8);
+        byte[] authorId = message.getAuthorId().getBytes(StandardCharsets.UTF_8);
+
+        return ByteBuffer.allocate(3 * Integer.BYTES + messageId.length + content.length + authorId.length)
+                .putInt(messageId.length).put(messageId)
+                .putInt(content.length).put(content)
+                .putInt(authorId.length).put(authorId)
+                .array();
+    }
+
+    private static MessageLogContentEntity decode(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        return new MessageLogContentEntity(readString(buffer), readString(buffer), readString(buffer));
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.eggy03.papertrail.sdk.spool;
+
+import io.github.eggy03.papertrail.sdk.batch.MessageLogBatchCallback;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings of a {@link MessageLogSpool}.
+ * <p>
+ * Immutable; create instances through {@code builder()}. Every setting except {@code directory} has a default.
+ * </p>
+ */
+@Getter
+@Builder(toBuilder = true)
+public class MessageLogSpoolConfig {
+
+    /**
+     * The directory holding the segment files; created if missing. Must not be shared between spools.
+     */
+    @NonNull
+    private final Path directory;
+
+    /**
+     * The size of each segment file in bytes. A single message must fit into one segment.
+     */
+    @Builder.Default
+    private final int segmentSize = 64 * 1024 * 1024;
+
+    /**
+     * The maximum number of segment files; once reached, appends are refused until the replayer catches up.
+     */
+    @Builder.Default
+    private final int maxSegments = 64;
+
+    /**
+     * How long the replayer waits after a failed replay, or while the engine's circuit breaker is open.
+     */
+    @NonNull
+    @Builder.Default
+    private final Duration replayInterval = Duration.ofSeconds(5);
+
+    /**
+     * Whether every append is forced to the storage device.
+     * <p>
+     * Appended records survive a crash of the JVM either way, since they live in the operating system's page cache.
+     * Forcing also protects against power loss or an operating system crash, at a large cost in throughput.
+     * </p>
+     */
+    @Builder.Default
+    private final boolean forceOnAppend = false;
+
+    /**
+     * Receives the outcome of every replayed message. Messages the API rejects permanently (a {@code 4xx}
+     * status other than {@code 408} or {@code 429}) are reported as failures and removed from the spool.
+     */
+    @NonNull
+    @Builder.Default
+    private final MessageLogBatchCallback callback = MessageLogBatchCallback.NO_OP;
+}
@@ -0,0 +1,144 @@
+package io.github.eggy03.papertrail.sdk.spool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * One memory-mapped, append-only segment file of a {@link MessageLogSpool}.
+ * <p>
+ * Records are laid out as {@code [int length][int crc32][payload]}; a zero length marks the end of the
+ * written region. Not thread-safe, guarded by the spool.
+ * </p>
+ */
+final class SpoolSegment {
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    final long sequence;
+    final Path path;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    private int writePosition;
+
+    private SpoolSegment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer, int writePosition) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+    }
+
+    /**
+     * Creates a new, zero-filled segment file.
+     */
+    static SpoolSegment create(long sequence, Path path, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new SpoolSegment(sequence, path, channel, buffer, 0);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing segment file and finds the end of its last intact record.
+     * A torn or corrupt record and everything after it is discarded.
+     */
+    static SpoolSegment recover(long sequence, Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = Files.size(path);
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("Segment " + path + " is too large");
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            SpoolSegment segment = new SpoolSegment(sequence, path, channel, buffer, 0);
+            segment.writePosition = segment.scan();
+
+            // clear a torn tail so that it cannot be mistaken for records appended later
+            for (int i = segment.writePosition; i < size && i < segment.writePosition + HEADER_BYTES; i++)
+                buffer.put(i, (byte) 0);
+
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private int scan() {
+        int position = 0;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > buffer.capacity())
+                break;
+
+            if (crc(position + HEADER_BYTES, length) != buffer.getInt(position + Integer.BYTES))
+                break;
+
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    boolean fits(int payloadLength) {
+        return buffer.capacity() - writePosition >= HEADER_BYTES + payloadLength;
+    }
+
+    /**
+     * Appends a record; the caller must have checked {@link #fits(int)}.
+     */
+    void append(byte[] payload, boolean force) {
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+
+        // payload and checksum first, the length last, so a torn write never looks complete
+        buffer.position(writePosition + HEADER_BYTES);
+        buffer.put(payload);
+        buffer.putInt(writePosition + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(writePosition, payload.length);
+        writePosition += HEADER_BYTES + payload.length;
+
+        if (force)
+            buffer.force();
+    }
+
+    /**
+     * @return the payload of the record at {@code position}, which must be below {@link #writePosition()}
+     */
+    byte[] read(int position) {
+        byte[] payload = new byte[buffer.getInt(position)];
+        ByteBuffer view = buffer.duplicate();
+        view.position(position + HEADER_BYTES);
+        view.get(payload);
+        return payload;
+    }
+
+    void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private int crc(int position, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.limit(position + length).position(position);
+
+        CRC32 crc = new CRC32();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,271 @@
+package io.github.eggy03.papertrail.sdk.batch;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.vavr.control.Either;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageLogWriteBehindBufferTest {
+
+    private static final String BULK_PATH = "/api/v1/content/message/bulk";
+
+    private final HttpServiceEngine mockEngine = mock(HttpServiceEngine.class);
+    private final RecordingCallback callback = new RecordingCallback();
+
+    private MessageLogWriteBehindBuffer newBuffer(MessageLogBatchConfig.MessageLogBatchConfigBuilder builder) {
+        return new MessageLogWriteBehindBuffer(
+                new AsyncHttpServiceEngine(mockEngine, Runnable::run),
+                builder.callback(callback).build()
+        );
+    }
+
+    @Test
+    void testInvalidConfig() {
+        AsyncHttpServiceEngine engine = new AsyncHttpServiceEngine(mockEngine);
+        MessageLogBatchConfig config = MessageLogBatchConfig.builder().maxBatchSize(0).build();
+
+        assertThatThrownBy(() -> new MessageLogWriteBehindBuffer(engine, config))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testBulkFlush_success() {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq(BULK_PATH),
+                any(HttpHeaders.class),
+                any(List.class),
+                eq(MessageLogContentEntity[].class)
+        )).thenReturn(Either.right(new MessageLogContentEntity[0]));
+
+        try (MessageLogWriteBehindBuffer buffer = newBuffer(MessageLogBatchConfig.builder().bulkPath(BULK_PATH).maxBatchSize(10))) {
+            for (int i = 0; i < 3; i++)
+                assertThat(buffer.submit(String.valueOf(i), "content", "1")).isTrue();
+        }
+
+        assertThat(callback.succeeded).hasSize(3);
+        assertThat(callback.failed).isEmpty();
+        verify(mockEngine, never()).makeRequestWithBody(
+                any(HttpMethod.class), eq("/api/v1/content/message"), any(HttpHeaders.class), any(), any());
+    }
+
+    @Test
+    void testBulkUnsupported_fallsBackToSingleRequests() {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq(BULK_PATH),
+                any(HttpHeaders.class),
+                any(List.class),
+                eq(MessageLogContentEntity[].class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(new MessageLogContentEntity("1", "content", "1")));
+
+        try (MessageLogWriteBehindBuffer buffer = newBuffer(MessageLogBatchConfig.builder()
+                .bulkPath(BULK_PATH)
+                .maxBatchSize(2)
+                .flushInterval(Duration.ofMillis(10)))) {
+            for (int i = 0; i < 5; i++)
+                buffer.submit(String.valueOf(i), "content", "1");
+        }
+
+        assertThat(callback.succeeded).hasSize(5);
+        verify(mockEngine, times(1)).makeRequestWithBody(
+                any(HttpMethod.class), eq(BULK_PATH), any(HttpHeaders.class), any(), any());
+    }
+
+    @Test
+    void testBulkFailure_retriesBatchAsSingleRequests() {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq(BULK_PATH),
+                any(HttpHeaders.class),
+                any(List.class),
+                eq(MessageLogContentEntity[].class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(503).build()));
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(new MessageLogContentEntity("1", "content", "1")));
+
+        try (MessageLogWriteBehindBuffer buffer = newBuffer(MessageLogBatchConfig.builder().bulkPath(BULK_PATH).maxBatchSize(10))) {
+            for (int i = 0; i < 3; i++)
+                buffer.submit(String.valueOf(i), "content", "1");
+        }
+
+        assertThat(callback.succeeded).hasSize(3);
+        assertThat(callback.failed).isEmpty();
+    }
+
+    @Test
+    void testDefaultConfig_sendsSingleRequests() {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(new MessageLogContentEntity("1", "content", "1")));
+
+        try (MessageLogWriteBehindBuffer buffer = newBuffer(MessageLogBatchConfig.builder())) {
+            buffer.submit("1", "content", "1");
+        }
+
+        assertThat(callback.succeeded).hasSize(1);
+        verify(mockEngine, never()).makeRequestWithBody(any(HttpMethod.class), eq(BULK_PATH), any(HttpHeaders.class), any(), any());
+    }
+
+    @Test
+    void testSingleRequest_failureReported() {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(500).build()));
+
+        try (MessageLogWriteBehindBuffer buffer = newBuffer(MessageLogBatchConfig.builder().bulkPath(null))) {
+            buffer.submit("1", "content", "1");
+        }
+
+        assertThat(callback.succeeded).isEmpty();
+        assertThat(callback.failed).hasSize(1);
+    }
+
+    @Test
+    void testSubmitAfterClose() {
+
+        MessageLogWriteBehindBuffer buffer = newBuffer(MessageLogBatchConfig.builder());
+        buffer.close();
+
+        assertThat(buffer.submit("1", "content", "1")).isFalse();
+    }
+
+    @Test
+    void testRejectedRequest_reportsEachMessageOnce() {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(new MessageLogContentEntity("1", "content", "1")));
+
+        AtomicInteger requests = new AtomicInteger();
+        Executor rejectingSecond = task -> {
+            if (requests.incrementAndGet() == 2)
+                throw new RejectedExecutionException("full");
+            task.run();
+        };
+
+        MessageLogWriteBehindBuffer buffer = new MessageLogWriteBehindBuffer(
+                new AsyncHttpServiceEngine(mockEngine, rejectingSecond),
+                MessageLogBatchConfig.builder()
+                        .bulkPath(null)
+                        .maxBatchSize(3)
+                        .flushInterval(Duration.ofSeconds(1))
+                        .callback(callback)
+                        .build()
+        );
+        for (int i = 1; i <= 3; i++)
+            buffer.submit(String.valueOf(i), "content", "1");
+        buffer.close();
+
+        assertThat(callback.succeeded).extracting(MessageLogContentEntity::getMessageId).containsExactly("1");
+        assertThat(callback.failed).extracting(MessageLogContentEntity::getMessageId).containsExactlyInAnyOrder("2", "3");
+    }
+
+    @Test
+    void testSubmitRacingClose_everyQueuedMessageIsReported() throws InterruptedException {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(new MessageLogContentEntity("1", "content", "1")));
+
+        MessageLogWriteBehindBuffer buffer = newBuffer(MessageLogBatchConfig.builder()
+                .bulkPath(null)
+                .backpressure(BackpressureStrategy.BLOCK)
+                .queueCapacity(4)
+                .flushInterval(Duration.ofMillis(1)));
+
+        AtomicInteger queued = new AtomicInteger();
+        List<Thread> submitters = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread submitter = new Thread(() -> {
+                while (buffer.submit("1", "content", "1"))
+                    queued.incrementAndGet();
+            });
+            submitter.start();
+            submitters.add(submitter);
+        }
+
+        Thread.sleep(50);
+        buffer.close();
+        for (Thread submitter : submitters)
+            submitter.join(5000);
+
+        assertThat(queued.get()).isPositive();
+        assertThat(callback.succeeded.size() + callback.failed.size()).isEqualTo(queued.get());
+        assertThat(buffer.pending()).isZero();
+    }
+
+    private static final class RecordingCallback implements MessageLogBatchCallback {
+
+        private final List<MessageLogContentEntity> succeeded = new CopyOnWriteArrayList<>();
+        private final List<MessageLogContentEntity> failed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onSuccess(@NotNull MessageLogContentEntity message) {
+            succeeded.add(message);
+        }
+
+        @Override
+        public void onFailure(@NotNull MessageLogContentEntity message, @NotNull ErrorEntity error) {
+            failed.add(message);
+        }
+    }
+}
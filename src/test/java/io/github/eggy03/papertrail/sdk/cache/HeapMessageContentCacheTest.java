@@ -0,0 +1,81 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HeapMessageContentCacheTest {
+
+    private static MessageLogContentEntity message(String id, String content) {
+        return new MessageLogContentEntity(id, content, "1");
+    }
+
+    @Test
+    void putAndGet() {
+        HeapMessageContentCache cache = new HeapMessageContentCache(1000);
+        cache.put(message("1", "hello"));
+
+        assertThat(cache.get("1")).map(MessageLogContentEntity::getMessageContent).contains("hello");
+        assertThat(cache.get("2")).isEmpty();
+        assertThat(cache.contentBytes()).isEqualTo(5);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedOverBudget() {
+        // room for two of the messages, but not three
+        HeapMessageContentCache cache = new HeapMessageContentCache(2 * HeapMessageContentCache.weigh(message("1", "aaaa")) + 10);
+        cache.put(message("1", "aaaa"));
+        cache.put(message("2", "bbbb"));
+        cache.get("1");
+        cache.put(message("3", "cccc"));
+
+        assertThat(cache.get("2")).isEmpty();
+        assertThat(cache.get("1")).isPresent();
+        assertThat(cache.get("3")).isPresent();
+        assertThat(cache.contentBytes()).isEqualTo(8);
+    }
+
+    @Test
+    void replacingUpdatesSize() {
+        HeapMessageContentCache cache = new HeapMessageContentCache(1000);
+        cache.put(message("1", "short"));
+        cache.put(message("1", "much longer"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.contentBytes()).isEqualTo(11);
+
+        cache.invalidate("1");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.contentBytes()).isZero();
+    }
+
+    @Test
+    void doesNotCacheMessageLargerThanBudget() {
+        HeapMessageContentCache cache = new HeapMessageContentCache(HeapMessageContentCache.ENTRY_OVERHEAD_BYTES + 4);
+        cache.put(message("1", "hello"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void boundsMessagesWithoutContent() {
+        HeapMessageContentCache cache = new HeapMessageContentCache(10 * HeapMessageContentCache.weigh(message("100", "")));
+        for (int i = 100; i < 200; i++)
+            cache.put(message(String.valueOf(i), ""));
+
+        assertThat(cache.size()).isEqualTo(10);
+        assertThat(cache.contentBytes()).isZero();
+    }
+
+    @Test
+    void weighsContentInUtf8Bytes() {
+        assertThat(HeapMessageContentCache.utf8Length("aé€😀")).isEqualTo(1 + 2 + 3 + 4);
+    }
+
+    @Test
+    void rejectsInvalidBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new HeapMessageContentCache(0));
+    }
+}
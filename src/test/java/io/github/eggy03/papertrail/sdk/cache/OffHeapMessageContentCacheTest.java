@@ -0,0 +1,109 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapMessageContentCacheTest {
+
+    // header (20 bytes) + 12 bytes of content
+    private static final int RECORD = 32;
+
+    private static MessageLogContentEntity message(long id, String content) {
+        return new MessageLogContentEntity(String.valueOf(id), content, "987654321");
+    }
+
+    @Test
+    void putAndDecodeOnGet() {
+        OffHeapMessageContentCache cache = new OffHeapMessageContentCache(1024, 1024);
+        cache.put(new MessageLogContentEntity("1234567890123456789", "héllo 😀", "18446744073709551615"));
+
+        MessageLogContentEntity cached = cache.get("1234567890123456789").orElseThrow(AssertionError::new);
+        assertThat(cached.getMessageContent()).isEqualTo("héllo 😀");
+        assertThat(cached.getAuthorId()).isEqualTo("18446744073709551615");
+        assertThat(cache.contentBytes()).isEqualTo("héllo 😀".getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void replaceAndInvalidate() {
+        OffHeapMessageContentCache cache = new OffHeapMessageContentCache(1024, 1024);
+        cache.put(message(1, "first"));
+        cache.put(message(1, "second"));
+
+        assertThat(cache.get("1")).map(MessageLogContentEntity::getMessageContent).contains("second");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.contentBytes()).isEqualTo(6);
+
+        cache.invalidate("1");
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.contentBytes()).isZero();
+    }
+
+    @Test
+    void recyclesOldestSlab() {
+        // two slabs holding two records each
+        OffHeapMessageContentCache cache = new OffHeapMessageContentCache(4 * RECORD, 2 * RECORD);
+        for (long id = 1; id <= 5; id++)
+            cache.put(message(id, "content-" + id + "..."));
+
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.get("2")).isEmpty();
+        assertThat(cache.get("3")).isPresent();
+        assertThat(cache.get("5")).isPresent();
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    void skipsUnsupportedMessages() {
+        OffHeapMessageContentCache cache = new OffHeapMessageContentCache(64, 64);
+        cache.put(new MessageLogContentEntity("not-a-snowflake", "content", "1"));
+        cache.put(message(1, new String(new char[64]).replace('\0', 'x')));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidateAll() {
+        OffHeapMessageContentCache cache = new OffHeapMessageContentCache(1024, 1024);
+        cache.put(message(1, "content"));
+        cache.invalidateAll();
+
+        assertThat(cache.get("1")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMessageContentCache(1024, 8));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMessageContentCache(10, 1024));
+    }
+
+    @Test
+    void indexMatchesHashMap() {
+        LongLongHashMap index = new LongLongHashMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                long value = random.nextInt(Integer.MAX_VALUE);
+                Long previous = expected.put(key, value);
+                assertThat(index.put(key, value)).isEqualTo(previous == null ? LongLongHashMap.ABSENT : previous);
+            } else {
+                Long previous = expected.remove(key);
+                assertThat(index.remove(key)).isEqualTo(previous == null ? LongLongHashMap.ABSENT : previous);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(index.get(key)).isEqualTo(value));
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.eggy03.papertrail.sdk.cache;
+
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RegistrationCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AuditLogRegistrationEntity registration = new AuditLogRegistrationEntity("1", "2");
+
+    private RegistrationCache<AuditLogRegistrationEntity> cache;
+
+    @BeforeEach
+    void createCache() {
+        cache = new RegistrationCache<>(Duration.ofNanos(100), 2, clock::get);
+    }
+
+    private Function<String, Either<ErrorEntity, AuditLogRegistrationEntity>> respondWith(
+            Either<ErrorEntity, AuditLogRegistrationEntity> response) {
+        return guildId -> {
+            loads.incrementAndGet();
+            return response;
+        };
+    }
+
+    private static ErrorEntity error(int status) {
+        return ErrorEntity.builder().status(status).build();
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new RegistrationCache<>(Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RegistrationCache<>(Duration.ofSeconds(1), 0));
+    }
+
+    @Test
+    void testHitWithinTtl() {
+
+        assertThat(cache.get("1", respondWith(Either.right(registration)))).get().isEqualTo(registration);
+        clock.set(99);
+        assertThat(cache.get("1", respondWith(Either.right(registration)))).get().isEqualTo(registration);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testReloadAfterTtl() {
+
+        cache.get("1", respondWith(Either.right(registration)));
+        clock.set(100);
+        cache.get("1", respondWith(Either.right(registration)));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testNegativeCaching() {
+
+        assertThat(cache.get("1", respondWith(Either.left(error(404))))).isEmpty();
+        assertThat(cache.get("1", respondWith(Either.right(registration)))).isEmpty();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testOtherErrorsNotCached() {
+
+        assertThat(cache.get("1", respondWith(Either.left(error(503))))).isEmpty();
+        assertThat(cache.get("1", respondWith(Either.right(registration)))).isNotEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+
+        cache.get("1", respondWith(Either.right(registration)));
+        cache.get("2", respondWith(Either.right(registration)));
+        cache.get("1", respondWith(Either.right(registration))); // touch 1, so 2 is eldest
+        cache.get("3", respondWith(Either.right(registration)));
+
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.get("1", respondWith(Either.right(registration)));
+        assertThat(loads).hasValue(3);
+
+        cache.get("2", respondWith(Either.right(registration)));
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void testInvalidate() {
+
+        cache.get("1", respondWith(Either.right(registration)));
+        cache.invalidate("1");
+        cache.get("1", respondWith(Either.right(registration)));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void testLoadRacingInvalidationIsNotStored() {
+
+        cache.get("1", guildId -> {
+            cache.invalidate(guildId);
+            return Either.right(registration);
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.eggy03.papertrail.sdk.client;
 
+import io.github.eggy03.papertrail.sdk.cache.RegistrationCache;
 import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
 import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
 import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
 import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
 import io.vavr.control.Either;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -13,11 +16,18 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AuditLogRegistrationClientTest {
@@ -86,7 +96,7 @@ class AuditLogRegistrationClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.GET),
-                eq("/api/v1/log/audit/" + guildId),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(AuditLogRegistrationEntity.class)
         )).thenReturn(Either.right(responseBody));
@@ -103,7 +113,7 @@ class AuditLogRegistrationClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.GET),
-                eq("/api/v1/log/audit/" + guildId),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(AuditLogRegistrationEntity.class)
         )).thenReturn(Either.left(responseBody));
@@ -111,14 +121,28 @@ class AuditLogRegistrationClientTest {
         assertThat(client.getRegisteredGuild(guildId)).isEmpty();
     }
 
+    @Test
+    void getRegisteredGuild_withDeadline() {
 
+        AuditLogRegistrationEntity responseBody = new AuditLogRegistrationEntity(guildId, channelId);
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class),
+                eq(Duration.ofSeconds(3))
+        )).thenReturn(Either.right(responseBody));
+
+        assertThat(client.getRegisteredGuild(guildId, Duration.ofSeconds(3))).get().isEqualTo(responseBody);
+    }
 
     @Test
     void deleteRegisteredGuild_success() {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.DELETE),
-                eq("/api/v1/log/audit/" + guildId),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(Void.class)
         )).thenReturn(Either.right(null));
@@ -131,7 +155,7 @@ class AuditLogRegistrationClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.DELETE),
-                eq("/api/v1/log/audit/" + guildId),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(Void.class)
         )).thenReturn(Either.left(ErrorEntity.builder().build()));
@@ -139,4 +163,152 @@ class AuditLogRegistrationClientTest {
         assertThat(client.deleteRegisteredGuild(guildId)).isFalse();
 
     }
+
+    @Test
+    void registerGuildAsync_success() {
+
+        AuditLogRegistrationEntity responseBody = new AuditLogRegistrationEntity(guildId, channelId);
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/log/audit"),
+                any(HttpHeaders.class),
+                any(AuditLogRegistrationEntity.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.right(responseBody));
+
+        assertThat(client.registerGuildAsync(guildId, channelId).join()).isTrue();
+    }
+
+    @Test
+    void getRegisteredGuildAsync_success() {
+
+        AuditLogRegistrationEntity responseBody = new AuditLogRegistrationEntity(guildId, channelId);
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.right(responseBody));
+
+        assertThat(client.getRegisteredGuildAsync(guildId).join()).get().isEqualTo(responseBody);
+    }
+
+    @Test
+    void getRegisteredGuildAsync_empty() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().build()));
+
+        assertThat(client.getRegisteredGuildAsync(guildId).join()).isEmpty();
+    }
+
+    @Test
+    void deleteRegisteredGuildAsync_error() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().build()));
+
+        assertThat(client.deleteRegisteredGuildAsync(guildId).join()).isFalse();
+    }
+
+    @Test
+    void getRegisteredGuild_cachedUntilDeleted() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        AuditLogRegistrationClient cachedClient = new AuditLogRegistrationClient(
+                new AsyncHttpServiceEngine(engine),
+                new RegistrationCache<>(Duration.ofMinutes(5), 100)
+        );
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new AuditLogRegistrationEntity(guildId, channelId)));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.right(null));
+
+        assertThat(cachedClient.getRegisteredGuild(guildId)).isNotEmpty();
+        assertThat(cachedClient.getRegisteredGuildAsync(guildId).join()).isNotEmpty();
+        verify(engine, times(1)).makeRequest(eq(HttpMethod.GET), any(RequestPath.class), any(HttpHeaders.class), eq(AuditLogRegistrationEntity.class));
+
+        assertThat(cachedClient.deleteRegisteredGuild(guildId)).isTrue();
+        cachedClient.getRegisteredGuild(guildId);
+        verify(engine, times(2)).makeRequest(eq(HttpMethod.GET), any(RequestPath.class), any(HttpHeaders.class), eq(AuditLogRegistrationEntity.class));
+    }
+
+    @Test
+    void getRegisteredGuilds_skipsUnregisteredGuilds() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", "1")),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new AuditLogRegistrationEntity("1", channelId)));
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", "2")),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        Map<String, AuditLogRegistrationEntity> registrations = client.getRegisteredGuildsAsync(Arrays.asList("2", "1"), 1).join();
+
+        assertThat(registrations).containsOnlyKeys("1");
+        assertThat(registrations.get("1").getChannelId()).isEqualTo(channelId);
+    }
+
+    @Test
+    void getRegisteredGuilds_reportsFailedLookups() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        AuditLogRegistrationClient lookupClient = new AuditLogRegistrationClient(engine);
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", "1")),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new AuditLogRegistrationEntity("1", channelId)));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", "2")),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", "3")),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(503).build()));
+
+        Map<String, ErrorEntity> errors = new ConcurrentHashMap<>();
+        Map<String, AuditLogRegistrationEntity> registrations = lookupClient.getRegisteredGuildsAsync(
+                Arrays.asList("1", "2", "3"), 2, errors::put).join();
+
+        assertThat(registrations).containsOnlyKeys("1");
+        assertThat(errors).containsOnlyKeys("3");
+        assertThat(errors.get("3").getStatus()).isEqualTo(503);
+    }
 }
@@ -0,0 +1,81 @@
+package io.github.eggy03.papertrail.sdk.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedFanOutTest {
+
+    @Test
+    void limitsCallsInFlight() {
+
+        List<CompletableFuture<Integer>> pending = new ArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        CompletableFuture<Map<String, Integer>> result = BoundedFanOut.run(Arrays.asList("a", "b", "c", "d", "e"), 2, key -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            pending.add(future);
+            return future.whenComplete((value, throwable) -> inFlight.decrementAndGet());
+        });
+
+        // completing a call starts the next one, which is appended to the list
+        for (int i = 0; i < pending.size(); i++)
+            pending.get(i).complete(i);
+
+        assertThat(maxInFlight.get()).isEqualTo(2);
+        assertThat(result.join()).containsExactly(
+                entry("a", 0), entry("b", 1), entry("c", 2), entry("d", 3), entry("e", 4));
+    }
+
+    @Test
+    void callsDuplicateKeysOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<String, String> result = BoundedFanOut.run(Arrays.asList("a", "a", "b"), 4, key -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(key.toUpperCase());
+        }).join();
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(result).containsOnlyKeys("a", "b");
+    }
+
+    @Test
+    void completesImmediatelyForNoKeys() {
+        assertThat(BoundedFanOut.run(Collections.<String>emptyList(), 1, CompletableFuture::completedFuture).join()).isEmpty();
+    }
+
+    @Test
+    void failsOnFailedCall() {
+        CompletableFuture<Map<String, String>> result = BoundedFanOut.run(Arrays.asList("a", "b"), 1, key -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            future.completeExceptionally(new IllegalStateException(key));
+            return future;
+        });
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsInvalidParallelism() {
+        assertThatThrownBy(() -> BoundedFanOut.run(Collections.singletonList("a"), 0, CompletableFuture::completedFuture))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleEntry<>(key, value);
+    }
+}
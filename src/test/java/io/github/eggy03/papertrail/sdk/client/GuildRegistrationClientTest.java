@@ -0,0 +1,131 @@
+package io.github.eggy03.papertrail.sdk.client;
+
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.GuildRegistrationSnapshot;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EmptySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GuildRegistrationClientTest {
+
+    private final String guildId = "123456789";
+    private final String channelId = "987654321";
+
+    private HttpServiceEngine mockEngine;
+    private GuildRegistrationClient client;
+
+    @BeforeEach
+    void registerClient() {
+        mockEngine = mock(HttpServiceEngine.class);
+        client = new GuildRegistrationClient(mockEngine);
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new AuditLogRegistrationEntity(guildId, channelId)));
+    }
+
+    @ParameterizedTest
+    @EmptySource
+    void testConstructorEmptyBaseUrl(String baseUrl) {
+        assertThrows(ApiBaseUrlException.class, () -> new GuildRegistrationClient(baseUrl));
+    }
+
+    @Test
+    void getRegistrations_both() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new MessageLogRegistrationEntity(guildId, channelId)));
+
+        GuildRegistrationSnapshot snapshot = client.getRegistrations(guildId);
+
+        assertThat(snapshot.getGuildId()).isEqualTo(guildId);
+        assertThat(snapshot.getAuditLogRegistration()).map(AuditLogRegistrationEntity::getChannelId).contains(channelId);
+        assertThat(snapshot.getMessageLogRegistration()).map(MessageLogRegistrationEntity::getChannelId).contains(channelId);
+    }
+
+    @Test
+    void getRegistrationsAsync_messageLogMissing() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        GuildRegistrationSnapshot snapshot = client.getRegistrationsAsync(guildId).join();
+
+        assertThat(snapshot.getAuditLogRegistration()).isPresent();
+        assertThat(snapshot.getMessageLogRegistration()).isEmpty();
+        assertThat(snapshot.getMessageLogError()).isEmpty();
+        assertThat(snapshot.isComplete()).isTrue();
+    }
+
+    @Test
+    void getRegistrations_failedLookupCarriesError() {
+
+        ErrorEntity unavailable = ErrorEntity.builder().status(503).build();
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.left(unavailable));
+
+        GuildRegistrationSnapshot snapshot = client.getRegistrations(guildId);
+
+        assertThat(snapshot.getAuditLogRegistration()).isPresent();
+        assertThat(snapshot.getAuditLogError()).isEmpty();
+        assertThat(snapshot.getMessageLogRegistration()).isEmpty();
+        assertThat(snapshot.getMessageLogError()).contains(unavailable);
+        assertThat(snapshot.isComplete()).isFalse();
+    }
+
+    @Test
+    void getRegistrationsAsync_failedLookupCarriesError() {
+
+        ErrorEntity unavailable = ErrorEntity.builder().status(503).build();
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(Either.left(unavailable));
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        GuildRegistrationSnapshot snapshot = client.getRegistrationsAsync(guildId).join();
+
+        assertThat(snapshot.getAuditLogRegistration()).isEmpty();
+        assertThat(snapshot.getAuditLogError()).contains(unavailable);
+        assertThat(snapshot.getMessageLogRegistration()).isEmpty();
+        assertThat(snapshot.getMessageLogError()).isEmpty();
+    }
+}
@@ -1,9 +1,12 @@
 package io.github.eggy03.papertrail.sdk.client;
 
+import io.github.eggy03.papertrail.sdk.cache.HeapMessageContentCache;
 import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
 import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
 import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
 import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
 import io.vavr.control.Either;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -13,11 +16,22 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class MessageLogContentClientTest {
@@ -82,7 +96,7 @@ class MessageLogContentClientTest {
         MessageLogContentEntity responseBody = new MessageLogContentEntity(messageId, messageContent, authorId);
         when(mockEngine.makeRequest(
                 eq(HttpMethod.GET),
-                eq("/api/v1/content/message/" + messageId),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
                 any(HttpHeaders.class),
                 eq(MessageLogContentEntity.class)
         )).thenReturn(Either.right(responseBody));
@@ -96,7 +110,7 @@ class MessageLogContentClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.GET),
-                eq("/api/v1/content/message/" + messageId),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
                 any(HttpHeaders.class),
                 eq(MessageLogContentEntity.class)
         )).thenReturn(Either.left(ErrorEntity.builder().build()));
@@ -104,6 +118,20 @@ class MessageLogContentClientTest {
         assertThat(client.retrieveMessage(messageId)).isEmpty();
     }
 
+    @Test
+    void testRetrieveMessage_deadlineExceeded() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class),
+                eq(Duration.ofMillis(100))
+        )).thenReturn(Either.left(new ErrorEntity(504, "Deadline Exceeded", "No response within 100 ms", null, null)));
+
+        assertThat(client.retrieveMessage(messageId, Duration.ofMillis(100))).isEmpty();
+    }
+
     @Test
     void testUpdateMessage_success() {
 
@@ -138,7 +166,7 @@ class MessageLogContentClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.DELETE),
-                eq("/api/v1/content/message/" + messageId),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
                 any(HttpHeaders.class),
                 eq(Void.class)
         )).thenReturn(Either.right(null));
@@ -151,11 +179,234 @@ class MessageLogContentClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.DELETE),
-                eq("/api/v1/content/message/" + messageId),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
                 any(HttpHeaders.class),
                 eq(Void.class)
         )).thenReturn(Either.left(ErrorEntity.builder().build()));
 
         assertThat(client.deleteMessage(messageId)).isFalse();
     }
+
+    @Test
+    void testLogMessageAsync_success() {
+
+        MessageLogContentEntity responseBody = new MessageLogContentEntity(messageId, messageContent, authorId);
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(responseBody));
+
+        assertThat(client.logMessageAsync(messageId, messageContent, authorId).join()).isTrue();
+    }
+
+    @Test
+    void testRetrieveMessageAsync_success() {
+
+        MessageLogContentEntity responseBody = new MessageLogContentEntity(messageId, messageContent, authorId);
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(responseBody));
+
+        assertThat(client.retrieveMessageAsync(messageId).join()).get().isEqualTo(responseBody);
+    }
+
+    @Test
+    void testRetrieveMessageAsync_empty() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().build()));
+
+        assertThat(client.retrieveMessageAsync(messageId).join()).isEmpty();
+    }
+
+    @Test
+    void testUpdateMessageAsync_failure() {
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.PUT),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().build()));
+
+        assertThat(client.updateMessageAsync(messageId, messageContent, authorId).join()).isFalse();
+    }
+
+    @Test
+    void testDeleteMessageAsync_success() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.right(null));
+
+        assertThat(client.deleteMessageAsync(messageId).join()).isTrue();
+    }
+
+    @Test
+    void retrieveMessage_servedFromCacheUntilDeleted() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        MessageLogContentClient cachedClient = new MessageLogContentClient(
+                new AsyncHttpServiceEngine(engine),
+                new HeapMessageContentCache(1024)
+        );
+
+        when(engine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(new MessageLogContentEntity(messageId, messageContent, authorId)));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.right(null));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        assertThat(cachedClient.logMessage(messageId, messageContent, authorId)).isTrue();
+        assertThat(cachedClient.retrieveMessage(messageId)).map(MessageLogContentEntity::getMessageContent).contains(messageContent);
+        assertThat(cachedClient.retrieveMessageAsync(messageId).join()).isPresent();
+        verify(engine, never()).makeRequest(eq(HttpMethod.GET), any(RequestPath.class), any(HttpHeaders.class), eq(MessageLogContentEntity.class));
+
+        assertThat(cachedClient.deleteMessage(messageId)).isTrue();
+        assertThat(cachedClient.retrieveMessage(messageId)).isEmpty();
+        verify(engine, times(1)).makeRequest(eq(HttpMethod.GET), any(RequestPath.class), any(HttpHeaders.class), eq(MessageLogContentEntity.class));
+    }
+
+    @Test
+    void retrieveMessage_racingDeletionIsNotCached() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        AsyncHttpServiceEngine asyncEngine = mock(AsyncHttpServiceEngine.class);
+        when(asyncEngine.getEngine()).thenReturn(engine);
+        HeapMessageContentCache cache = new HeapMessageContentCache(1024);
+        MessageLogContentClient cachedClient = new MessageLogContentClient(asyncEngine, cache);
+
+        CompletableFuture<Either<ErrorEntity, MessageLogContentEntity>> pendingGet = new CompletableFuture<>();
+        when(asyncEngine.makeRequestAsync(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(pendingGet);
+
+        when(engine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.right(null));
+
+        CompletableFuture<Optional<MessageLogContentEntity>> retrieved = cachedClient.retrieveMessageAsync(messageId);
+        assertThat(cachedClient.deleteMessage(messageId)).isTrue();
+        pendingGet.complete(Either.right(new MessageLogContentEntity(messageId, messageContent, authorId)));
+
+        assertThat(retrieved.join()).isPresent();
+        assertThat(cache.get(messageId)).isEmpty();
+    }
+
+    @Test
+    void retrieveMessage_unrelatedDeletionStillCaches() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        AsyncHttpServiceEngine asyncEngine = mock(AsyncHttpServiceEngine.class);
+        when(asyncEngine.getEngine()).thenReturn(engine);
+        HeapMessageContentCache cache = new HeapMessageContentCache(1024);
+        MessageLogContentClient cachedClient = new MessageLogContentClient(asyncEngine, cache);
+
+        CompletableFuture<Either<ErrorEntity, MessageLogContentEntity>> pendingGet = new CompletableFuture<>();
+        when(asyncEngine.makeRequestAsync(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", messageId)),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(pendingGet);
+
+        when(engine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", "1")),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.right(null));
+
+        CompletableFuture<Optional<MessageLogContentEntity>> retrieved = cachedClient.retrieveMessageAsync(messageId);
+        assertThat(cachedClient.deleteMessage("1")).isTrue();
+        pendingGet.complete(Either.right(new MessageLogContentEntity(messageId, messageContent, authorId)));
+
+        assertThat(retrieved.join()).isPresent();
+        assertThat(cache.get(messageId)).isPresent();
+    }
+
+    @Test
+    void testRetrieveMessages_reportsMissingMessages() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", "1")),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.right(new MessageLogContentEntity("1", messageContent, authorId)));
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", "2")),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        Map<String, ErrorEntity> errors = new ConcurrentHashMap<>();
+        Map<String, MessageLogContentEntity> messages = client.retrieveMessagesAsync(Arrays.asList("1", "2"), 2, errors::put).join();
+
+        assertThat(messages).containsOnlyKeys("1");
+        assertThat(errors).containsOnlyKeys("2");
+        assertThat(client.retrieveMessages(Arrays.asList("2", "1"))).containsOnlyKeys("1");
+    }
+
+    @Test
+    void testDeleteMessages_perIdResults() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", "1")),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.right(null));
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", "2")),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        Map<String, Boolean> results = client.deleteMessages(Arrays.asList("1", "2", "1"));
+
+        assertThat(results).containsExactly(
+                new AbstractMap.SimpleEntry<>("1", true),
+                new AbstractMap.SimpleEntry<>("2", false));
+    }
 }
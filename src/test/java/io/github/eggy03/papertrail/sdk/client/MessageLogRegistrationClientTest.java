@@ -1,9 +1,12 @@
 package io.github.eggy03.papertrail.sdk.client;
 
+import io.github.eggy03.papertrail.sdk.cache.RegistrationCache;
 import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
 import io.github.eggy03.papertrail.sdk.entity.MessageLogRegistrationEntity;
 import io.github.eggy03.papertrail.sdk.exception.ApiBaseUrlException;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
 import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
 import io.vavr.control.Either;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -13,11 +16,18 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class MessageLogRegistrationClientTest {
@@ -86,7 +96,7 @@ class MessageLogRegistrationClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.GET),
-                eq("/api/v1/log/message/" + guildId),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(MessageLogRegistrationEntity.class)
         )).thenReturn(Either.right(responseBody));
@@ -103,7 +113,7 @@ class MessageLogRegistrationClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.GET),
-                eq("/api/v1/log/message/" + guildId),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(MessageLogRegistrationEntity.class)
         )).thenReturn(Either.left(responseBody));
@@ -118,7 +128,7 @@ class MessageLogRegistrationClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.DELETE),
-                eq("/api/v1/log/message/" + guildId),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(Void.class)
         )).thenReturn(Either.right(null));
@@ -131,7 +141,7 @@ class MessageLogRegistrationClientTest {
 
         when(mockEngine.makeRequest(
                 eq(HttpMethod.DELETE),
-                eq("/api/v1/log/message/" + guildId),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
                 any(HttpHeaders.class),
                 eq(Void.class)
         )).thenReturn(Either.left(ErrorEntity.builder().build()));
@@ -139,4 +149,163 @@ class MessageLogRegistrationClientTest {
         assertThat(client.deleteRegisteredGuild(guildId)).isFalse();
 
     }
+
+    @Test
+    void registerGuildAsync_success() {
+
+        MessageLogRegistrationEntity responseBody = new MessageLogRegistrationEntity(guildId, channelId);
+
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/log/message"),
+                any(HttpHeaders.class),
+                any(MessageLogRegistrationEntity.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.right(responseBody));
+
+        assertThat(client.registerGuildAsync(guildId, channelId).join()).isTrue();
+    }
+
+    @Test
+    void getRegisteredGuildAsync_success() {
+
+        MessageLogRegistrationEntity responseBody = new MessageLogRegistrationEntity(guildId, channelId);
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.right(responseBody));
+
+        assertThat(client.getRegisteredGuildAsync(guildId).join()).get().isEqualTo(responseBody);
+    }
+
+    @Test
+    void getRegisteredGuildAsync_empty() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().build()));
+
+        assertThat(client.getRegisteredGuildAsync(guildId).join()).isEmpty();
+    }
+
+    @Test
+    void deleteRegisteredGuildAsync_error() {
+
+        when(mockEngine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().build()));
+
+        assertThat(client.deleteRegisteredGuildAsync(guildId).join()).isFalse();
+    }
+
+    @Test
+    void getRegisteredGuild_cachedUntilDeleted() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        MessageLogRegistrationClient cachedClient = new MessageLogRegistrationClient(
+                new AsyncHttpServiceEngine(engine),
+                new RegistrationCache<>(Duration.ofMinutes(5), 100)
+        );
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new MessageLogRegistrationEntity(guildId, channelId)));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", guildId)),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(Either.right(null));
+
+        assertThat(cachedClient.getRegisteredGuild(guildId)).isNotEmpty();
+        assertThat(cachedClient.getRegisteredGuildAsync(guildId).join()).isNotEmpty();
+        verify(engine, times(1)).makeRequest(eq(HttpMethod.GET), any(RequestPath.class), any(HttpHeaders.class), eq(MessageLogRegistrationEntity.class));
+
+        assertThat(cachedClient.deleteRegisteredGuild(guildId)).isTrue();
+        cachedClient.getRegisteredGuild(guildId);
+        verify(engine, times(2)).makeRequest(eq(HttpMethod.GET), any(RequestPath.class), any(HttpHeaders.class), eq(MessageLogRegistrationEntity.class));
+    }
+
+    @Test
+    void getRegisteredGuilds_warmsCache() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        MessageLogRegistrationClient cachedClient = new MessageLogRegistrationClient(
+                new AsyncHttpServiceEngine(engine),
+                new RegistrationCache<>(Duration.ofMinutes(5), 100)
+        );
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", "1")),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new MessageLogRegistrationEntity("1", channelId)));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", "2")),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        Map<String, MessageLogRegistrationEntity> registrations = cachedClient.getRegisteredGuilds(Arrays.asList("1", "2", "1"));
+
+        assertThat(registrations).containsOnlyKeys("1");
+        assertThat(cachedClient.getRegisteredGuild("1")).isNotEmpty();
+        assertThat(cachedClient.getRegisteredGuild("2")).isEmpty();
+        verify(engine, times(2)).makeRequest(eq(HttpMethod.GET), any(RequestPath.class), any(HttpHeaders.class), eq(MessageLogRegistrationEntity.class));
+    }
+
+    @Test
+    void getRegisteredGuilds_reportsFailedLookups() {
+
+        HttpServiceEngine engine = mock(HttpServiceEngine.class);
+        MessageLogRegistrationClient lookupClient = new MessageLogRegistrationClient(
+                new AsyncHttpServiceEngine(engine),
+                new RegistrationCache<>(Duration.ofMinutes(5), 100)
+        );
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", "1")),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.right(new MessageLogRegistrationEntity("1", channelId)));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", "2")),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(404).build()));
+
+        when(engine.makeRequest(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/message/{guildId}", "3")),
+                any(HttpHeaders.class),
+                eq(MessageLogRegistrationEntity.class)
+        )).thenReturn(Either.left(ErrorEntity.builder().status(503).build()));
+
+        Map<String, ErrorEntity> errors = new ConcurrentHashMap<>();
+        Map<String, MessageLogRegistrationEntity> registrations = lookupClient.getRegisteredGuildsAsync(
+                Arrays.asList("1", "2", "3"), 2, errors::put).join();
+
+        assertThat(registrations).containsOnlyKeys("1");
+        assertThat(errors).containsOnlyKeys("3");
+        assertThat(errors.get("3").getStatus()).isEqualTo(503);
+    }
 }
@@ -0,0 +1,98 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AsyncHttpServiceEngineTest {
+
+    private static final String MESSAGE_JSON = "{\"messageId\":\"1\",\"messageContent\":\"test\",\"authorId\":\"2\"}";
+
+    @Test
+    void testConcurrencyLimitedExecutor_capsRunningTasks() throws Exception {
+
+        ExecutorService pool = Executors.newCachedThreadPool();
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor(pool, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }, executor));
+        }
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        // a task's future completes just before its permit is released, so wait for the workers to finish
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(maxRunning.get()).isBetween(1, 3);
+        assertThat(executor.availablePermits()).isEqualTo(3);
+    }
+
+    @Test
+    void testWithVirtualThreads_rejectsInvalidCap() {
+
+        HttpServiceEngine engine = new HttpServiceEngine("http://127.0.0.1");
+
+        assertThatThrownBy(() -> AsyncHttpServiceEngine.withVirtualThreads(engine, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testWithVirtualThreads_unsupportedRuntime() {
+
+        assumeTrue(!AsyncHttpServiceEngine.isVirtualThreadSupported());
+        HttpServiceEngine engine = new HttpServiceEngine("http://127.0.0.1");
+
+        assertThatThrownBy(() -> AsyncHttpServiceEngine.withVirtualThreads(engine, 4)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void testWithVirtualThreads_runsRequestsOnVirtualThreads() throws Exception {
+
+        assumeTrue(AsyncHttpServiceEngine.isVirtualThreadSupported());
+
+        try (StubApiServer server = new StubApiServer()) {
+            server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+            AsyncHttpServiceEngine engine = AsyncHttpServiceEngine.withVirtualThreads(new HttpServiceEngine(server.baseUrl()), 4);
+
+            Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequestAsync(
+                    HttpMethod.GET, "/api/v1/content/message/1", new HttpHeaders(), MessageLogContentEntity.class).get(10, TimeUnit.SECONDS);
+            boolean virtual = VirtualThreads.newExecutor().submit(() -> isVirtual(Thread.currentThread())).get(10, TimeUnit.SECONDS);
+
+            assertThat(response.get().getMessageId()).isEqualTo("1");
+            assertThat(virtual).isTrue();
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> transitions = new CopyOnWriteArrayList<>();
+
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void createBreaker() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+                .failureRateThreshold(0.5)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .waitDurationInOpenState(Duration.ofNanos(100))
+                .permittedCallsInHalfOpenState(2)
+                .listener((from, to) -> transitions.add(from + "->" + to))
+                .build();
+        breaker = new CircuitBreaker(config, clock::get);
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failure : failures) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onResult(failure);
+        }
+    }
+
+    @Test
+    void staysClosedBelowMinimumNumberOfCalls() {
+        record(true, true, true);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void opensAtFailureRateThreshold() {
+        record(false, false, true, true);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    void slidingWindowForgetsOldOutcomes() {
+        record(true, false, false, false, false, true);
+
+        // window holds false, false, false, true
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void halfOpenClosesAfterSuccessfulTrials() {
+        record(true, true, true, true);
+        clock.addAndGet(100);
+
+        record(false);
+        assertThat(breaker.getState()).isEqualTo(CircuitState.HALF_OPEN);
+        record(false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    void halfOpenReopensOnFailure() {
+        record(true, true, true, true);
+        clock.addAndGet(100);
+
+        record(true);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void halfOpenLimitsTrialCalls() {
+        record(true, true, true, true);
+        clock.addAndGet(100);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void releasedPermissionRecordsNoOutcome() {
+        record(true, true, true, true);
+        clock.addAndGet(100);
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.releasePermission();
+        breaker.onResult(false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitState.HALF_OPEN);
+        record(false);
+        assertThat(breaker.getState()).isEqualTo(CircuitState.CLOSED);
+    }
+
+    @Test
+    void rejectsInvalidConfig() {
+        CircuitBreakerConfig config = CircuitBreakerConfig.builder().failureRateThreshold(0).build();
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(config));
+
+        CircuitBreakerConfig unreachableMinimum = CircuitBreakerConfig.builder().slidingWindowSize(10).minimumNumberOfCalls(11).build();
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker(unreachableMinimum));
+    }
+}
@@ -0,0 +1,509 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.metrics.HttpMetricsListener;
+import io.github.eggy03.papertrail.sdk.metrics.RequestOutcome;
+import org.jetbrains.annotations.NotNull;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpServiceEngineTest {
+
+    private static final String MESSAGE_JSON = "{\"messageId\":\"1\",\"messageContent\":\"test\",\"authorId\":\"2\"}";
+
+    private StubApiServer server;
+    private final HttpHeaders headers = new HttpHeaders();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new StubApiServer();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void testRequest_success() {
+
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl() + "/");
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(response.isRight()).isTrue();
+        assertThat(response.get().getMessageContent()).isEqualTo("test");
+    }
+
+    @Test
+    void testRequestWithBody_clientError() {
+
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequestWithBody(
+                HttpMethod.POST, "/api/v1/content/message", headers,
+                new MessageLogContentEntity("1", "test", "2"), MessageLogContentEntity.class);
+
+        assertThat(response.isLeft()).isTrue();
+        assertThat(response.getLeft().getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    void testRequest_unreachable() throws IOException {
+
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        HttpServiceEngine engine = new HttpServiceEngine("http://127.0.0.1:" + closedPort);
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(response.getLeft().getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void testReadTimeout() {
+
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON, 1000);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder()
+                .readTimeout(Duration.ofMillis(100))
+                .build());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(response.getLeft().getStatus()).isEqualTo(503);
+    }
+
+    @Test
+    void testMaxConnectionsPerRoute() {
+
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON, 500);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder()
+                .maxConnectionsPerRoute(1)
+                .connectTimeout(Duration.ofMillis(100))
+                .build());
+
+        CompletableFuture<Either<ErrorEntity, MessageLogContentEntity>> first = CompletableFuture.supplyAsync(() ->
+                engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class));
+        CompletableFuture<Either<ErrorEntity, MessageLogContentEntity>> second = CompletableFuture.supplyAsync(() ->
+                engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class));
+
+        long rejected = Stream.of(first.join(), second.join()).filter(Either::isLeft).count();
+        assertThat(rejected).isEqualTo(1);
+    }
+
+    @Test
+    void testMetricsListener() {
+
+        List<String> events = new CopyOnWriteArrayList<>();
+        HttpMetricsListener listener = new HttpMetricsListener() {
+            @Override
+            public void onRequestStart(@NotNull String method, @NotNull String pathTemplate) {
+                events.add("start " + method + " " + pathTemplate);
+            }
+
+            @Override
+            public void onRequestComplete(@NotNull String method, @NotNull String pathTemplate, @NotNull RequestOutcome outcome,
+                                          int status, long durationNanos, long requestBytes, long responseBytes) {
+                events.add("complete " + method + " " + pathTemplate + " " + outcome + " " + status + " " + requestBytes + " " + responseBytes);
+            }
+        };
+
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder()
+                .metricsListener(listener)
+                .build());
+
+        engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+        engine.makeRequestWithBody(HttpMethod.POST, "/api/v1/content/message", headers,
+                new MessageLogContentEntity("1", "test", "2"), MessageLogContentEntity.class);
+
+        assertThat(events).hasSize(4);
+        assertThat(events.get(0)).isEqualTo("start GET /api/v1/content/message/{id}");
+        assertThat(events.get(1)).isEqualTo("complete GET /api/v1/content/message/{id} SUCCESS 200 0 " + MESSAGE_JSON.length());
+        assertThat(events.get(2)).isEqualTo("start POST /api/v1/content/message");
+        assertThat(events.get(3)).startsWith("complete POST /api/v1/content/message CLIENT_ERROR 404 " + server.requests().get(1).body.length + " ");
+    }
+
+    @Test
+    void testMetricsListener_reportsExplicitTemplate() {
+
+        List<String> templates = new CopyOnWriteArrayList<>();
+        HttpMetricsListener listener = new HttpMetricsListener() {
+            @Override
+            public void onRequestStart(@NotNull String method, @NotNull String pathTemplate) {
+                templates.add(pathTemplate);
+            }
+        };
+
+        server.respond("GET", "/api/v1/content/message/abc", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder()
+                .metricsListener(listener)
+                .build());
+
+        engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/abc", headers, MessageLogContentEntity.class);
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(HttpMethod.GET,
+                RequestPath.of("/api/v1/content/message/{messageId}", "abc"), headers, MessageLogContentEntity.class);
+
+        assertThat(response.isRight()).isTrue();
+        assertThat(templates).containsExactly("/api/v1/content/message/abc", "/api/v1/content/message/{messageId}");
+    }
+
+    private static final String SERVER_ERROR_JSON =
+            "{\"status\":503,\"error\":\"Service Unavailable\",\"message\":\"busy\",\"timeStamp\":\"now\",\"path\":\"/\"}";
+
+    private HttpServiceEngine retryingEngine(RetryPolicy policy) {
+        return new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder().retryPolicy(policy).build());
+    }
+
+    @Test
+    void testRetry_transientServerError() {
+
+        server.enqueue("GET", "/api/v1/content/message/1", 503, SERVER_ERROR_JSON, Collections.emptyMap());
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = retryingEngine(RetryPolicy.builder().initialBackoff(Duration.ofMillis(1)).build());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(response.isRight()).isTrue();
+        assertThat(engine.getRetryCount()).isEqualTo(1);
+        assertThat(server.requestCount("GET", "/api/v1/content/message/1")).isEqualTo(2);
+    }
+
+    @Test
+    void testRetry_nonIdempotentNotRetriedByDefault() {
+
+        server.respond("POST", "/api/v1/content/message", 503, SERVER_ERROR_JSON);
+        HttpServiceEngine engine = retryingEngine(RetryPolicy.builder().initialBackoff(Duration.ofMillis(1)).build());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequestWithBody(HttpMethod.POST, "/api/v1/content/message",
+                headers, new MessageLogContentEntity("1", "test", "2"), MessageLogContentEntity.class);
+
+        assertThat(response.getLeft().getStatus()).isEqualTo(503);
+        assertThat(server.requestCount("POST", "/api/v1/content/message")).isEqualTo(1);
+    }
+
+    @Test
+    void testRetry_honoursRetryAfter() {
+
+        server.enqueue("GET", "/api/v1/content/message/1", 429, SERVER_ERROR_JSON, Collections.singletonMap("Retry-After", "0"));
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = retryingEngine(RetryPolicy.builder().initialBackoff(Duration.ofMinutes(1)).build());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(response.isRight()).isTrue();
+    }
+
+    @Test
+    void testRetry_budgetExhausted() {
+
+        server.respond("GET", "/api/v1/content/message/1", 503, SERVER_ERROR_JSON);
+        HttpServiceEngine engine = retryingEngine(RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(1))
+                .budgetCapacity(0)
+                .build());
+
+        engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(engine.getRetryCount()).isZero();
+        assertThat(engine.getRetriesDeniedByBudget()).isEqualTo(1);
+        assertThat(server.requestCount("GET", "/api/v1/content/message/1")).isEqualTo(1);
+    }
+
+    @Test
+    void testCircuitBreaker_failsFastWhileOpen() {
+
+        server.respond("GET", "/api/v1/content/message/1", 503, SERVER_ERROR_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder()
+                .circuitBreaker(CircuitBreakerConfig.builder().slidingWindowSize(2).minimumNumberOfCalls(2).build())
+                .build());
+
+        for (int i = 0; i < 3; i++)
+            engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(engine.getCircuitState()).isEqualTo(CircuitState.OPEN);
+        assertThat(response.getLeft().getError()).isEqualTo("Circuit Open");
+        assertThat(server.requestCount("GET", "/api/v1/content/message/1")).isEqualTo(2);
+    }
+
+    @Test
+    void testRateLimiter_rejectsWithoutWaiting() {
+
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder()
+                .rateLimiter(RateLimiterConfig.builder()
+                        .limit(EndpointGroup.CONTENT, RateLimit.builder().permitsPerSecond(0.001).burstSize(1).build())
+                        .maxWait(Duration.ZERO)
+                        .build())
+                .build());
+
+        Either<ErrorEntity, MessageLogContentEntity> first = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+        Either<ErrorEntity, MessageLogContentEntity> second = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+        assertThat(first.isRight()).isTrue();
+        assertThat(second.getLeft().getStatus()).isEqualTo(429);
+        assertThat(second.getLeft().getError()).isEqualTo("Rate Limited");
+        assertThat(server.requestCount("GET", "/api/v1/content/message/1")).isEqualTo(1);
+    }
+
+    @Test
+    void testCoalesceGets() throws Exception {
+
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON, 300);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder().coalesceGets(true).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Either<ErrorEntity, MessageLogContentEntity>>> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            responses.add(CompletableFuture.supplyAsync(() -> engine.makeRequest(
+                    HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class), executor));
+            Thread.sleep(20);
+        }
+        executor.shutdown();
+
+        for (CompletableFuture<Either<ErrorEntity, MessageLogContentEntity>> response : responses)
+            assertThat(response.get().get().getMessageId()).isEqualTo("1");
+
+        assertThat(server.requestCount("GET", "/api/v1/content/message/1")).isEqualTo(1);
+        assertThat(engine.getCoalescedRequests()).isEqualTo(3);
+    }
+
+    @Test
+    void testStreamingCodec() {
+
+        server.respond("POST", "/api/v1/content/message", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder().streamingCodec(true).build());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequestWithBody(
+                HttpMethod.POST, "/api/v1/content/message", headers,
+                new MessageLogContentEntity("1", "test", "2"), MessageLogContentEntity.class);
+        Either<ErrorEntity, MessageLogContentEntity> missing = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/9", headers, MessageLogContentEntity.class);
+
+        assertThat(response.get()).usingRecursiveComparison().isEqualTo(new MessageLogContentEntity("1", "test", "2"));
+        assertThat(new String(server.requests().get(0).body, StandardCharsets.UTF_8)).isEqualTo(MESSAGE_JSON);
+        assertThat(missing.getLeft().getStatus()).isEqualTo(404);
+        assertThat(missing.getLeft().getPath()).isEqualTo("/api/v1/content/message/9");
+    }
+
+    @Test
+    void testRequestCompression() throws IOException {
+
+        server.respond("POST", "/api/v1/content/message", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder().requestCompressionThreshold(256).build());
+
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+            content.append("repeated text ");
+
+        engine.makeRequestWithBody(HttpMethod.POST, "/api/v1/content/message", headers,
+                new MessageLogContentEntity("1", "short", "2"), MessageLogContentEntity.class);
+        engine.makeRequestWithBody(HttpMethod.POST, "/api/v1/content/message", headers,
+                new MessageLogContentEntity("1", content.toString(), "2"), MessageLogContentEntity.class);
+
+        StubApiServer.RecordedRequest small = server.requests().get(0);
+        StubApiServer.RecordedRequest large = server.requests().get(1);
+
+        assertThat(small.headers.getFirst("Content-Encoding")).isNull();
+        assertThat(small.headers.getFirst("Accept-Encoding")).contains("gzip");
+        assertThat(large.headers.getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(large.body.length).isLessThan(content.length() / 4);
+
+        ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.body))) {
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1)
+                decompressed.write(buffer, 0, read);
+        }
+        assertThat(new String(decompressed.toByteArray(), StandardCharsets.UTF_8)).contains(content.toString());
+    }
+
+    @Test
+    void testRequest_pathNeedingEncoding() {
+
+        server.respond("GET", "/api/v1/content/message/a b", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/a b", RequestHeaders.JSON, MessageLogContentEntity.class);
+
+        assertThat(response.isRight()).isTrue();
+        assertThat(server.requests().get(0).path).isEqualTo("/api/v1/content/message/a b");
+    }
+
+    @Test
+    void testHedging_fastHedgeWinsOverSlowPrimary() {
+
+        server.enqueue("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON, Collections.emptyMap(), 3000);
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder()
+                .hedging(HedgingConfig.builder().initialDelay(Duration.ofMillis(100)).build())
+                .build());
+
+        long start = System.nanoTime();
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(response.get().getMessageId()).isEqualTo("1");
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(engine.getHedgedRequests()).isEqualTo(1);
+        assertThat(server.requestCount("GET", "/api/v1/content/message/1")).isEqualTo(2);
+    }
+
+    @Test
+    void testLoadBalancing_failsOverFromUnreachableEndpoint() throws IOException {
+
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(
+                Arrays.asList("http://127.0.0.1:" + closedPort, server.baseUrl()),
+                HttpServiceEngineConfig.builder()
+                        .loadBalancer(LoadBalancerConfig.builder().consecutiveFailuresToEject(1).build())
+                        .build());
+
+        for (int i = 0; i < 4; i++) {
+            Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                    HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+            assertThat(response.isRight()).isTrue();
+        }
+        assertThat(engine.getHealthyBaseUrls()).containsExactly(server.baseUrl());
+    }
+
+    @Test
+    void testLoadBalancing_nonIdempotentRequestIsNotFailedOver() throws IOException {
+
+        try (StubApiServer healthy = new StubApiServer()) {
+            server.respond("POST", "/api/v1/content/message", 503, SERVER_ERROR_JSON);
+            healthy.respond("POST", "/api/v1/content/message", 200, MESSAGE_JSON);
+            HttpServiceEngine engine = new HttpServiceEngine(Arrays.asList(server.baseUrl(), healthy.baseUrl()),
+                    HttpServiceEngineConfig.builder().build());
+
+            int failures = 0;
+            for (int i = 0; i < 20; i++) {
+                Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequestWithBody(
+                        HttpMethod.POST, "/api/v1/content/message", headers,
+                        new MessageLogContentEntity("1", "test", "2"), MessageLogContentEntity.class);
+                if (response.isLeft())
+                    failures++;
+            }
+
+            assertThat(failures).isPositive();
+            assertThat(server.requestCount("POST", "/api/v1/content/message")).isEqualTo(failures);
+            assertThat(healthy.requestCount("POST", "/api/v1/content/message")).isEqualTo(20 - failures);
+        }
+    }
+
+    @Test
+    void testLoadBalancing_spreadsRequests() throws IOException {
+
+        try (StubApiServer second = new StubApiServer()) {
+            server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+            second.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+            HttpServiceEngine engine = new HttpServiceEngine(Arrays.asList(server.baseUrl(), second.baseUrl() + "/"),
+                    HttpServiceEngineConfig.builder().build());
+
+            for (int i = 0; i < 40; i++)
+                engine.makeRequest(HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class);
+
+            assertThat(server.requestCount("GET", "/api/v1/content/message/1")).isPositive();
+            assertThat(second.requestCount("GET", "/api/v1/content/message/1")).isPositive();
+        }
+    }
+
+    @Test
+    void testDeadline_abortsSlowRequest() {
+
+        server.enqueue("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON, Collections.emptyMap(), 3000);
+        server.respond("GET", "/api/v1/content/message/1", 200, MESSAGE_JSON);
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl());
+
+        long start = System.nanoTime();
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class, Duration.ofMillis(200));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(response.getLeft().getStatus()).isEqualTo(504);
+        assertThat(response.getLeft().getError()).isEqualTo("Deadline Exceeded");
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+
+        Either<ErrorEntity, MessageLogContentEntity> next = engine.makeRequest(
+                HttpMethod.GET, "/api/v1/content/message/1", headers, MessageLogContentEntity.class, Duration.ofSeconds(5));
+        assertThat(next.get().getMessageId()).isEqualTo("1");
+    }
+
+    @Test
+    void testDeadline_exhaustedBudgetSkipsApi() {
+
+        HttpServiceEngine engine = new HttpServiceEngine(server.baseUrl());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = engine.makeRequestWithBody(
+                HttpMethod.POST, "/api/v1/content/message", headers,
+                new MessageLogContentEntity("1", "test", "2"), MessageLogContentEntity.class, Duration.ZERO);
+
+        assertThat(response.getLeft().getStatus()).isEqualTo(504);
+        assertThat(server.requests()).isEmpty();
+    }
+
+    @Test
+    void testDefaultConfig_leavesJvmWideProperties() {
+
+        String keepAlive = System.clearProperty("jdk.httpclient.keepalive.timeout");
+        try {
+            new HttpServiceEngine(server.baseUrl());
+            assertThat(System.getProperty("jdk.httpclient.keepalive.timeout")).isNull();
+
+            new HttpServiceEngine(server.baseUrl(), HttpServiceEngineConfig.builder().keepAlive(Duration.ofSeconds(45)).build());
+            assertThat(System.getProperty("jdk.httpclient.keepalive.timeout")).isEqualTo("45");
+        } finally {
+            if (keepAlive == null)
+                System.clearProperty("jdk.httpclient.keepalive.timeout");
+            else
+                System.setProperty("jdk.httpclient.keepalive.timeout", keepAlive);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadBalancerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private LoadBalancer balancer(LoadBalancingStrategy strategy) {
+        LoadBalancerConfig config = LoadBalancerConfig.builder()
+                .strategy(strategy)
+                .consecutiveFailuresToEject(2)
+                .ejectionDuration(Duration.ofNanos(100))
+                .build();
+        return new LoadBalancer(Arrays.asList("http://a", "http://b"), config, clock::get);
+    }
+
+    @Test
+    void prefersEndpointWithFewerOutstandingRequests() {
+        LoadBalancer balancer = balancer(LoadBalancingStrategy.LEAST_OUTSTANDING);
+
+        LoadBalancer.Endpoint first = balancer.acquire(null);
+        LoadBalancer.Endpoint second = balancer.acquire(null);
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void ejectsAfterConsecutiveFailuresAndReadmitsLater() {
+        LoadBalancer balancer = balancer(LoadBalancingStrategy.POWER_OF_TWO_CHOICES);
+        LoadBalancer.Endpoint[] endpoints = both(balancer);
+
+        fail(balancer, endpoints[0], endpoints[1]);
+        fail(balancer, endpoints[0], endpoints[1]);
+        assertThat(balancer.healthyBaseUrls()).containsExactly(endpoints[1].baseUrl);
+
+        for (int i = 0; i < 10; i++) {
+            LoadBalancer.Endpoint picked = balancer.acquire(null);
+            assertThat(picked).isSameAs(endpoints[1]);
+            balancer.release(picked, false);
+        }
+
+        clock.set(100);
+        assertThat(balancer.healthyBaseUrls()).hasSize(2);
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        LoadBalancer balancer = balancer(LoadBalancingStrategy.LEAST_OUTSTANDING);
+        LoadBalancer.Endpoint[] endpoints = both(balancer);
+
+        fail(balancer, endpoints[0], endpoints[1]);
+        balancer.release(balancer.acquire(Collections.singletonList(endpoints[1])), false);
+        fail(balancer, endpoints[0], endpoints[1]);
+
+        assertThat(balancer.healthyBaseUrls()).hasSize(2);
+    }
+
+    @Test
+    void abandonedRequestRecordsNoOutcome() {
+        LoadBalancer balancer = balancer(LoadBalancingStrategy.LEAST_OUTSTANDING);
+        LoadBalancer.Endpoint[] endpoints = both(balancer);
+
+        fail(balancer, endpoints[0], endpoints[1]);
+        balancer.abandon(balancer.acquire(Collections.singletonList(endpoints[1])));
+        fail(balancer, endpoints[0], endpoints[1]);
+
+        assertThat(balancer.healthyBaseUrls()).containsExactly(endpoints[1].baseUrl);
+    }
+
+    @Test
+    void usesEjectedEndpointsWhenNoneIsHealthy() {
+        LoadBalancer balancer = balancer(LoadBalancingStrategy.POWER_OF_TWO_CHOICES);
+
+        for (int i = 0; i < 4; i++) {
+            LoadBalancer.Endpoint endpoint = balancer.acquire(null);
+            balancer.release(endpoint, true);
+        }
+        assertThat(balancer.healthyBaseUrls()).isEmpty();
+
+        assertThat(balancer.acquire(null)).isNotNull();
+    }
+
+    @Test
+    void returnsNullWhenEveryEndpointIsExcluded() {
+        LoadBalancer balancer = balancer(LoadBalancingStrategy.POWER_OF_TWO_CHOICES);
+
+        LoadBalancer.Endpoint first = balancer.acquire(null);
+        LoadBalancer.Endpoint second = balancer.acquire(Collections.singletonList(first));
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(balancer.acquire(Arrays.asList(first, second))).isNull();
+    }
+
+    @Test
+    void rejectsInvalidConfig() {
+        LoadBalancerConfig config = LoadBalancerConfig.builder().consecutiveFailuresToEject(0).build();
+
+        assertThrows(IllegalArgumentException.class, () -> new LoadBalancer(Collections.singletonList("http://a"), config));
+    }
+
+    private static LoadBalancer.Endpoint[] both(LoadBalancer balancer) {
+        LoadBalancer.Endpoint first = balancer.acquire(null);
+        LoadBalancer.Endpoint second = balancer.acquire(Collections.singletonList(first));
+        balancer.release(first, false);
+        balancer.release(second, false);
+        return new LoadBalancer.Endpoint[]{first, second};
+    }
+
+    private static void fail(LoadBalancer balancer, LoadBalancer.Endpoint endpoint, LoadBalancer.Endpoint other) {
+        LoadBalancer.Endpoint acquired = balancer.acquire(Collections.singletonList(other));
+        assertThat(acquired).isSameAs(endpoint);
+        balancer.release(acquired, true);
+    }
+}
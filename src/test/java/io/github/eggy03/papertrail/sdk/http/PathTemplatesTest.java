@@ -0,0 +1,22 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathTemplatesTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/v1/content/message, /api/v1/content/message",
+            "/api/v1/content/message/123456789, /api/v1/content/message/{id}",
+            "/api/v1/log/audit/123?x=1, /api/v1/log/audit/{id}",
+            "/api/v1/log/message/, /api/v1/log/message/",
+            "/api/v1/content/message/bulk, /api/v1/content/message/bulk",
+            "/v2/12/items/34, /v2/{id}/items/{id}"
+    })
+    void testTemplate(String path, String template) {
+        assertThat(PathTemplates.of(path)).isEqualTo(template);
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private TokenBucket bucket(double permitsPerSecond, int burstSize) {
+        return new TokenBucket(RateLimit.builder().permitsPerSecond(permitsPerSecond).burstSize(burstSize).build(), clock::get);
+    }
+
+    @Test
+    void bucket_allowsBurstThenRefills() {
+        TokenBucket bucket = bucket(2, 2);
+
+        assertThat(bucket.reserve(0)).isZero();
+        assertThat(bucket.reserve(0)).isZero();
+        assertThat(bucket.reserve(0)).isEqualTo(-1);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(bucket.reserve(0)).isZero();
+    }
+
+    @Test
+    void bucket_reservesWaitWithinMaximum() {
+        TokenBucket bucket = bucket(1, 1);
+        bucket.reserve(0);
+
+        assertThat(bucket.reserve(SECOND)).isEqualTo(SECOND);
+        // the first reservation is pending, so the next permit is two seconds away
+        assertThat(bucket.reserve(SECOND)).isEqualTo(-1);
+        assertThat(bucket.reserve(2 * SECOND)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    void bucket_restrictedByApiQuota() {
+        TokenBucket bucket = bucket(100, 100);
+
+        bucket.restrict(0, 10 * SECOND);
+        assertThat(bucket.reserve(SECOND)).isEqualTo(-1);
+
+        clock.addAndGet(10 * SECOND);
+        assertThat(bucket.reserve(0)).isZero();
+    }
+
+    @Test
+    void limiter_adaptsToResponseHeaders() {
+        RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder().maxWait(Duration.ZERO).build(), clock::get);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-RateLimit-Remaining", "0");
+        headers.set("X-RateLimit-Reset", "30");
+
+        limiter.onResponse(EndpointGroup.CONTENT, 200, headers, null);
+
+        assertThat(limiter.acquire(EndpointGroup.CONTENT)).isFalse();
+        assertThat(limiter.acquire(EndpointGroup.AUDIT_LOG)).isTrue();
+    }
+
+    @Test
+    void limiter_pausedByRetryAfter() {
+        RateLimiter limiter = new RateLimiter(RateLimiterConfig.builder().maxWait(Duration.ZERO).build(), clock::get);
+
+        limiter.onResponse(EndpointGroup.MESSAGE_LOG, 429, null, Duration.ofSeconds(1));
+
+        assertThat(limiter.acquire(EndpointGroup.MESSAGE_LOG)).isFalse();
+        clock.addAndGet(SECOND);
+        assertThat(limiter.acquire(EndpointGroup.MESSAGE_LOG)).isTrue();
+    }
+
+    @Test
+    void endpointGroup_ofPath() {
+        assertThat(EndpointGroup.of("/api/v1/content/message/1")).isEqualTo(EndpointGroup.CONTENT);
+        assertThat(EndpointGroup.of("/api/v1/log/audit")).isEqualTo(EndpointGroup.AUDIT_LOG);
+        assertThat(EndpointGroup.of("/api/v1/log/message/1")).isEqualTo(EndpointGroup.MESSAGE_LOG);
+        assertThat(EndpointGroup.of("/api/v1/log/messages")).isEqualTo(EndpointGroup.OTHER);
+    }
+
+    @Test
+    void rejectsInvalidLimit() {
+        RateLimit limit = RateLimit.builder().burstSize(0).build();
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(limit, clock::get));
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestHedgerTest {
+
+    @Test
+    void testLatencyTracker_percentile() {
+
+        LatencyTracker tracker = new LatencyTracker(0.9, 100, 10);
+        for (int i = 1; i <= 9; i++)
+            tracker.record(i);
+        assertThat(tracker.percentileNanos()).isEqualTo(-1);
+
+        for (int i = 10; i <= 100; i++)
+            tracker.record(i);
+        assertThat(tracker.percentileNanos()).isBetween(85L, 90L);
+    }
+
+    @Test
+    void testFastResponse_isNotHedged() {
+
+        RequestHedger hedger = new RequestHedger(HedgingConfig.builder().initialDelay(Duration.ofSeconds(1)).build());
+        AtomicInteger calls = new AtomicInteger();
+
+        Either<ErrorEntity, String> response = hedger.execute("/", () -> {
+            calls.incrementAndGet();
+            return Either.right("fast");
+        });
+
+        assertThat(response.get()).isEqualTo("fast");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(hedger.getHedged()).isZero();
+    }
+
+    @Test
+    void testSlowResponse_hedgeWinsAndLoserIsCancelled() throws InterruptedException {
+
+        RequestHedger hedger = new RequestHedger(HedgingConfig.builder().initialDelay(Duration.ofMillis(20)).build());
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loserInterrupted = new CountDownLatch(1);
+
+        Either<ErrorEntity, String> response = hedger.execute("/", () -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    loserInterrupted.countDown();
+                }
+                return Either.right("slow");
+            }
+            return Either.right("hedge");
+        });
+
+        assertThat(response.get()).isEqualTo("hedge");
+        assertThat(hedger.getHedged()).isEqualTo(1);
+        assertThat(loserInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testBudget_capsHedges() {
+
+        RequestHedger hedger = new RequestHedger(HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(1))
+                .minimumDelay(Duration.ofMillis(1))
+                .budgetRatio(0)
+                .budgetCapacity(2)
+                .build());
+
+        for (int i = 0; i < 5; i++) {
+            hedger.execute("/", () -> {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Either.right("slow");
+            });
+        }
+
+        assertThat(hedger.getHedged()).isEqualTo(2);
+    }
+
+    @Test
+    void testExhaustedPool_skipsHedgeAndRunsOnCaller() throws Exception {
+
+        RequestHedger hedger = new RequestHedger(HedgingConfig.builder()
+                .initialDelay(Duration.ofMillis(20))
+                .maxThreads(1)
+                .build());
+        CountDownLatch primaryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread first = new Thread(() -> hedger.execute("/", () -> {
+            primaryStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Either.right("slow");
+        }));
+        first.start();
+        assertThat(primaryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // the only thread is busy, so this request runs on the calling thread
+        Thread caller = Thread.currentThread();
+        Either<ErrorEntity, Thread> response = hedger.execute("/", () -> Either.right(Thread.currentThread()));
+        assertThat(response.get()).isSameAs(caller);
+
+        release.countDown();
+        first.join(5000);
+        assertThat(hedger.getHedged()).isZero();
+    }
+
+    @Test
+    void testInvalidConfig() {
+        assertThatThrownBy(() -> new RequestHedger(HedgingConfig.builder().percentile(1).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RequestHedger(HedgingConfig.builder().windowSize(10).minimumSamples(20).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RequestHedger(HedgingConfig.builder().maxThreads(0).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
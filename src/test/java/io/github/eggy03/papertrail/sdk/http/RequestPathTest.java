@@ -0,0 +1,48 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestPathTest {
+
+    @Test
+    void expandsPlaceholdersInOrder() {
+
+        RequestPath path = RequestPath.of("/v2/{guildId}/items/{itemId}", "abc", "42");
+
+        assertThat(path.getPath()).isEqualTo("/v2/abc/items/42");
+        assertThat(path.getTemplate()).isEqualTo("/v2/{guildId}/items/{itemId}");
+        assertThat(path).isEqualTo(RequestPath.of("/v2/{guildId}/items/{itemId}", "abc", "42"));
+    }
+
+    @Test
+    void keepsPathsWithoutPlaceholders() {
+
+        RequestPath path = RequestPath.of("/api/v1/content/message");
+
+        assertThat(path.getPath()).isEqualTo("/api/v1/content/message");
+        assertThat(path.getTemplate()).isEqualTo("/api/v1/content/message");
+    }
+
+    @Test
+    void derivesTemplateFromPlainPath() {
+
+        RequestPath path = RequestPath.ofPath("/api/v1/log/audit/123");
+
+        assertThat(path.getPath()).isEqualTo("/api/v1/log/audit/123");
+        assertThat(path.getTemplate()).isEqualTo("/api/v1/log/audit/{id}");
+    }
+
+    @Test
+    void rejectsMismatchedVariables() {
+
+        assertThatThrownBy(() -> RequestPath.of("/api/v1/log/audit/{guildId}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestPath.of("/api/v1/log/audit/{guildId}", "1", "2"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RequestPath.of("/api/v1/log/audit/{guildId", "1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.eggy03.papertrail.sdk.http;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal in-process HTTP server answering canned JSON responses, for engine tests.
+ */
+final class StubApiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, StubResponse> responses = new ConcurrentHashMap<>();
+    private final Map<String, Queue<StubResponse>> queued = new ConcurrentHashMap<>();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    StubApiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void respond(String method, String path, int status, String json) {
+        respond(method, path, status, json, 0);
+    }
+
+    void respond(String method, String path, int status, String json, long delayMillis) {
+        responses.put(method + " " + path, new StubResponse(status, json, delayMillis, Collections.emptyMap()));
+    }
+
+    /**
+     * Queues a one-off response, served before any response registered through {@code respond}.
+     */
+    void enqueue(String method, String path, int status, String json, Map<String, String> headers) {
+        enqueue(method, path, status, json, headers, 0);
+    }
+
+    void enqueue(String method, String path, int status, String json, Map<String, String> headers, long delayMillis) {
+        queued.computeIfAbsent(method + " " + path, key -> new ConcurrentLinkedQueue<>())
+                .add(new StubResponse(status, json, delayMillis, headers));
+    }
+
+    List<RecordedRequest> requests() {
+        return requests;
+    }
+
+    long requestCount(String method, String path) {
+        return requests.stream().filter(r -> r.method.equals(method) && r.path.equals(path)).count();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        requests.add(new RecordedRequest(method, path, exchange.getRequestHeaders(), readAll(exchange.getRequestBody())));
+
+        Queue<StubResponse> pending = queued.get(method + " " + path);
+        StubResponse response = pending == null ? null : pending.poll();
+        if (response == null)
+            response = responses.get(method + " " + path);
+        if (response == null)
+            response = new StubResponse(404, "{\"status\":404,\"error\":\"Not Found\",\"message\":\"no stub\",\"timeStamp\":\"now\",\"path\":\"" + path + "\"}", 0, Collections.emptyMap());
+
+        if (response.delayMillis > 0) {
+            try {
+                Thread.sleep(response.delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] body = response.json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        response.headers.forEach(exchange.getResponseHeaders()::set);
+        exchange.sendResponseHeaders(response.status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    static final class RecordedRequest {
+        final String method;
+        final String path;
+        final Headers headers;
+        final byte[] body;
+
+        RecordedRequest(String method, String path, Headers headers, byte[] body) {
+            this.method = method;
+            this.path = path;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+
+    private static final class StubResponse {
+        final int status;
+        final String json;
+        final long delayMillis;
+        final Map<String, String> headers;
+
+        StubResponse(int status, String json, long delayMillis, Map<String, String> headers) {
+            this.status = status;
+            this.json = json;
+            this.delayMillis = delayMillis;
+            this.headers = headers;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.eggy03.papertrail.sdk.json;
+
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogRegistrationEntity;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityStreamingCodecTest {
+
+    @Test
+    void testRoundTrip_matchesDataBinding() {
+
+        Object[] entities = {
+                new MessageLogContentEntity("1", "héllo \"world\"\n😀", "2"),
+                new AuditLogRegistrationEntity("10", "20"),
+                new MessageLogRegistrationEntity("30", "40"),
+                new ErrorEntity(404, "Not Found", "missing", "2025-01-01T00:00:00Z", "/api/v1/log/audit/1")
+        };
+
+        for (Object entity : entities) {
+            byte[] streamed = EntityStreamingCodec.writeAsBytes(entity);
+
+            assertThat(PaperTrailJson.mapper().readValue(streamed, entity.getClass())).usingRecursiveComparison().isEqualTo(entity);
+            assertThat(EntityStreamingCodec.read(streamed, entity.getClass())).usingRecursiveComparison().isEqualTo(entity);
+            assertThat(EntityStreamingCodec.read(PaperTrailJson.mapper().writeValueAsBytes(entity), entity.getClass())).usingRecursiveComparison().isEqualTo(entity);
+        }
+    }
+
+    @Test
+    void testStreams_areFlushedButNotClosed() {
+
+        MessageLogContentEntity message = new MessageLogContentEntity("1", "content", "2");
+
+        TrackingOutputStream out = new TrackingOutputStream();
+        EntityStreamingCodec.write(message, out);
+
+        assertThat(out.closed).isFalse();
+        assertThat(out.toByteArray()).isEqualTo(EntityStreamingCodec.writeAsBytes(message));
+
+        TrackingInputStream in = new TrackingInputStream(out.toByteArray());
+        MessageLogContentEntity read = EntityStreamingCodec.read(in, MessageLogContentEntity.class);
+
+        assertThat(in.closed).isFalse();
+        assertThat(read).usingRecursiveComparison().isEqualTo(message);
+    }
+
+    @Test
+    void testRead_skipsUnknownAndToleratesMissingProperties() {
+
+        byte[] json = "{\"extra\":{\"nested\":[1,2]},\"messageId\":\"1\",\"authorId\":null}".getBytes(StandardCharsets.UTF_8);
+
+        MessageLogContentEntity message = EntityStreamingCodec.read(json, MessageLogContentEntity.class);
+
+        assertThat(message.getMessageId()).isEqualTo("1");
+        assertThat(message.getMessageContent()).isNull();
+        assertThat(message.getAuthorId()).isNull();
+    }
+
+    @Test
+    void testRead_rejectsNonObject() {
+
+        byte[] json = "[\"1\"]".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> EntityStreamingCodec.read(json, ErrorEntity.class)).isInstanceOf(JacksonException.class);
+    }
+
+    @Test
+    void testUnsupportedType() {
+
+        assertThat(EntityStreamingCodec.supports(String.class)).isFalse();
+        assertThatThrownBy(() -> EntityStreamingCodec.writeAsBytes("text")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class TrackingInputStream extends ByteArrayInputStream {
+
+        private boolean closed;
+
+        private TrackingInputStream(byte[] buffer) {
+            super(buffer);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.eggy03.papertrail.sdk.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerHttpMetricsListenerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MicrometerHttpMetricsListener listener = new MicrometerHttpMetricsListener(registry);
+
+    @Test
+    void testRecordsTimerGaugeAndSizes() {
+
+        listener.onRequestStart("GET", "/api/v1/content/message/{id}");
+        assertThat(registry.get("papertrail.client.requests.active").gauge().value()).isEqualTo(1.0);
+
+        listener.onRequestComplete("GET", "/api/v1/content/message/{id}", RequestOutcome.SUCCESS, 200,
+                TimeUnit.MILLISECONDS.toNanos(5), 0, 120);
+
+        assertThat(registry.get("papertrail.client.requests.active").gauge().value()).isZero();
+
+        Timer timer = registry.get("papertrail.client.requests")
+                .tag("uri", "/api/v1/content/message/{id}")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+
+        assertThat(registry.get("papertrail.client.response.size").summary().totalAmount()).isEqualTo(120.0);
+    }
+
+    @Test
+    void testOutcomeFromStatus() {
+        assertThat(RequestOutcome.fromStatus(204)).isEqualTo(RequestOutcome.SUCCESS);
+        assertThat(RequestOutcome.fromStatus(429)).isEqualTo(RequestOutcome.CLIENT_ERROR);
+        assertThat(RequestOutcome.fromStatus(503)).isEqualTo(RequestOutcome.SERVER_ERROR);
+    }
+}
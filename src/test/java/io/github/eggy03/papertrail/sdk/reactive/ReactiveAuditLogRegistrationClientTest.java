@@ -0,0 +1,68 @@
+package io.github.eggy03.papertrail.sdk.reactive;
+
+import io.github.eggy03.papertrail.sdk.entity.AuditLogRegistrationEntity;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveAuditLogRegistrationClientTest {
+
+    private final AsyncHttpServiceEngine mockEngine = mock(AsyncHttpServiceEngine.class);
+    private final ReactiveAuditLogRegistrationClient client = new ReactiveAuditLogRegistrationClient(mockEngine);
+
+    @Test
+    void registerGuild_success() {
+
+        AuditLogRegistrationEntity registration = new AuditLogRegistrationEntity("1", "2");
+        when(mockEngine.makeRequestWithBodyAsync(
+                eq(HttpMethod.POST),
+                eq("/api/v1/log/audit"),
+                any(HttpHeaders.class),
+                any(AuditLogRegistrationEntity.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(CompletableFuture.completedFuture(Either.right(registration)));
+
+        assertThat(client.registerGuild("1", "2").block(Duration.ofSeconds(5)).get()).isSameAs(registration);
+    }
+
+    @Test
+    void getRegisteredGuild_notRegistered() {
+
+        when(mockEngine.makeRequestAsync(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", "1")),
+                any(HttpHeaders.class),
+                eq(AuditLogRegistrationEntity.class)
+        )).thenReturn(CompletableFuture.completedFuture(Either.left(new ErrorEntity(404, "Not Found", "missing", "now", "/api/v1/log/audit/1"))));
+
+        Either<ErrorEntity, AuditLogRegistrationEntity> response = client.getRegisteredGuild("1").block(Duration.ofSeconds(5));
+
+        assertThat(response.getLeft().getStatus()).isEqualTo(404);
+    }
+
+    @Test
+    void deleteRegisteredGuild_success() {
+
+        when(mockEngine.makeRequestAsync(
+                eq(HttpMethod.DELETE),
+                eq(RequestPath.of("/api/v1/log/audit/{guildId}", "1")),
+                any(HttpHeaders.class),
+                eq(Void.class)
+        )).thenReturn(CompletableFuture.completedFuture(Either.right(null)));
+
+        assertThat(client.deleteRegisteredGuild("1").block(Duration.ofSeconds(5)).isRight()).isTrue();
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.eggy03.papertrail.sdk.reactive;
+
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.http.AsyncHttpServiceEngine;
+import io.github.eggy03.papertrail.sdk.http.RequestPath;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveMessageLogContentClientTest {
+
+    private final AsyncHttpServiceEngine mockEngine = mock(AsyncHttpServiceEngine.class);
+    private final ReactiveMessageLogContentClient client = new ReactiveMessageLogContentClient(mockEngine);
+
+    @Test
+    void retrieveMessage_isLazyAndMapsResponse() {
+
+        MessageLogContentEntity message = new MessageLogContentEntity("1", "test", "2");
+        when(mockEngine.makeRequestAsync(
+                eq(HttpMethod.GET),
+                eq(RequestPath.of("/api/v1/content/message/{messageId}", "1")),
+                any(HttpHeaders.class),
+                eq(MessageLogContentEntity.class)
+        )).thenReturn(CompletableFuture.completedFuture(Either.right(message)));
+
+        client.retrieveMessage("1");
+        verify(mockEngine, never()).makeRequestAsync(any(), any(RequestPath.class), any(), any());
+
+        Either<ErrorEntity, MessageLogContentEntity> response = client.retrieveMessage("1").block(Duration.ofSeconds(5));
+
+        assertThat(response.get()).isSameAs(message);
+    }
+
+    @Test
+    void logMessages_boundsInFlightAndKeepsOrder() {
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(mockEngine.makeRequestWithBodyAsync(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenAnswer(invocation -> {
+            MessageLogContentEntity message = invocation.getArgument(3);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    // later messages complete first, so ordering is not accidental
+                    Thread.sleep(50 - 2L * Integer.parseInt(message.getMessageId()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                inFlight.decrementAndGet();
+                return "13".equals(message.getMessageId())
+                        ? Either.<ErrorEntity, MessageLogContentEntity>left(new ErrorEntity(500, "Server Error", "failed", "now", "/api/v1/content/message"))
+                        : Either.<ErrorEntity, MessageLogContentEntity>right(message);
+            });
+        });
+
+        Flux<MessageLogContentEntity> messages = Flux.range(0, 20).map(i -> new MessageLogContentEntity(String.valueOf(i), "content", "2"));
+
+        List<Either<ErrorEntity, MessageLogContentEntity>> results = client.logMessages(messages, 4).collectList().block(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(20);
+        assertThat(maxInFlight.get()).isBetween(1, 4);
+        for (int i = 0; i < 20; i++) {
+            if (i == 13)
+                assertThat(results.get(i).getLeft().getStatus()).isEqualTo(500);
+            else
+                assertThat(results.get(i).get().getMessageId()).isEqualTo(String.valueOf(i));
+        }
+    }
+
+    @Test
+    void logMessages_rejectsInvalidConcurrency() {
+        assertThatThrownBy(() -> client.logMessages(Flux.empty(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
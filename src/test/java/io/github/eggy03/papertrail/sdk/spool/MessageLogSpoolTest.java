@@ -0,0 +1,279 @@
+package io.github.eggy03.papertrail.sdk.spool;
+
+import io.github.eggy03.papertrail.sdk.batch.MessageLogBatchCallback;
+import io.github.eggy03.papertrail.sdk.entity.ErrorEntity;
+import io.github.eggy03.papertrail.sdk.entity.MessageLogContentEntity;
+import io.github.eggy03.papertrail.sdk.http.HttpServiceEngine;
+import io.vavr.control.Either;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageLogSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    private final HttpServiceEngine mockEngine = mock(HttpServiceEngine.class);
+    private final RecordingCallback callback = new RecordingCallback();
+
+    // status the stubbed API answers with
+    private final AtomicInteger apiStatus = new AtomicInteger(503);
+
+    @BeforeEach
+    void stubApi() {
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenAnswer(invocation -> apiStatus.get() == 200
+                ? Either.right(invocation.getArgument(3))
+                : Either.left(ErrorEntity.builder().status(apiStatus.get()).build()));
+    }
+
+    private MessageLogSpool newSpool(MessageLogSpoolConfig.MessageLogSpoolConfigBuilder builder) {
+        return new MessageLogSpool(mockEngine, builder
+                .directory(directory)
+                .replayInterval(Duration.ofMillis(10))
+                .callback(callback)
+                .build());
+    }
+
+    private static MessageLogContentEntity message(int id) {
+        return new MessageLogContentEntity(String.valueOf(id), "content", "1");
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private long segmentFiles() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*")) {
+            long count = 0;
+            for (Path ignored : files)
+                count++;
+            return count;
+        }
+    }
+
+    @Test
+    void testInvalidConfig() {
+        MessageLogSpoolConfig config = MessageLogSpoolConfig.builder().directory(directory).maxSegments(0).build();
+
+        assertThatThrownBy(() -> new MessageLogSpool(mockEngine, config))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testReplaysInOrderOnceApiRecovers() throws InterruptedException {
+
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder())) {
+            for (int i = 0; i < 5; i++)
+                assertThat(spool.append(message(i))).isTrue();
+
+            Thread.sleep(50);
+            assertThat(spool.pending()).isEqualTo(5);
+            assertThat(callback.succeeded).isEmpty();
+
+            apiStatus.set(200);
+            await(() -> callback.succeeded.size() == 5);
+            assertThat(spool.pending()).isZero();
+        }
+
+        assertThat(callback.succeededIds()).containsExactly("0", "1", "2", "3", "4");
+    }
+
+    @Test
+    void testRecoversAfterRestart() throws InterruptedException {
+
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder())) {
+            for (int i = 0; i < 3; i++)
+                spool.append(message(i));
+        }
+
+        apiStatus.set(200);
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder())) {
+            await(() -> callback.succeeded.size() == 3);
+        }
+
+        // nothing is replayed twice after another restart
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder())) {
+            assertThat(spool.pending()).isZero();
+        }
+        assertThat(callback.succeededIds()).containsExactly("0", "1", "2");
+    }
+
+    @Test
+    void testDiscardsTornRecord() throws IOException, InterruptedException {
+
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder().segmentSize(1024))) {
+            spool.append(message(0));
+            spool.append(message(1));
+        }
+
+        // corrupt the last payload byte of the second record
+        Path segment = directory.resolve(String.format("segment-%020d.spool", 0));
+        int recordSize = SpoolSegment.HEADER_BYTES + 3 * Integer.BYTES + "0content1".length();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(2L * recordSize - 1);
+            file.write('x');
+        }
+
+        apiStatus.set(200);
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder().segmentSize(1024))) {
+            assertThat(spool.pending()).isEqualTo(1);
+            await(() -> callback.succeeded.size() == 1);
+        }
+        assertThat(callback.succeededIds()).containsExactly("0");
+    }
+
+    @Test
+    void testRotatesAndDeletesReplayedSegments() throws IOException, InterruptedException {
+
+        // two 29-byte records per segment
+        MessageLogSpoolConfig.MessageLogSpoolConfigBuilder config = MessageLogSpoolConfig.builder().segmentSize(64);
+        try (MessageLogSpool spool = newSpool(config)) {
+            for (int i = 0; i < 10; i++)
+                assertThat(spool.append(message(i))).isTrue();
+            assertThat(segmentFiles()).isEqualTo(5);
+
+            apiStatus.set(200);
+            await(() -> callback.succeeded.size() == 10);
+            await(() -> {
+                try {
+                    return segmentFiles() == 1;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        assertThat(callback.succeededIds()).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+    }
+
+    @Test
+    void testRefusesAppendsWhenFull() {
+
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder().segmentSize(64).maxSegments(1))) {
+            assertThat(spool.append(message(0))).isTrue();
+            assertThat(spool.append(message(1))).isTrue();
+            assertThat(spool.append(message(2))).isFalse();
+        }
+    }
+
+    @Test
+    void testDropsPermanentlyRejectedMessages() throws InterruptedException {
+
+        apiStatus.set(400);
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder())) {
+            spool.append(message(0));
+            await(() -> callback.failed.size() == 1);
+            assertThat(spool.pending()).isZero();
+        }
+    }
+
+    @Test
+    void testSpoolingCallbackAppendsTransientFailures() {
+
+        try (MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder())) {
+            MessageLogBatchCallback spooling = spool.spoolingCallback(MessageLogBatchCallback.NO_OP);
+
+            spooling.onFailure(message(0), ErrorEntity.builder().status(503).build());
+            spooling.onFailure(message(1), ErrorEntity.builder().status(400).build());
+
+            assertThat(spool.pending()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void testCloseWakesWaitingReplayer() {
+
+        MessageLogSpool spool = new MessageLogSpool(mockEngine, MessageLogSpoolConfig.builder()
+                .directory(directory)
+                .replayInterval(Duration.ofMinutes(1))
+                .build());
+        spool.append(message(0));
+        // the replay fails transiently, so the replayer waits a minute before trying again
+        verify(mockEngine, timeout(5000)).makeRequestWithBody(
+                eq(HttpMethod.POST), eq("/api/v1/content/message"), any(HttpHeaders.class),
+                any(MessageLogContentEntity.class), eq(MessageLogContentEntity.class));
+
+        assertTimeoutPreemptively(Duration.ofMillis(500), spool::close);
+        assertThat(spool.append(message(1))).isFalse();
+    }
+
+    @Test
+    void testCloseInterruptsInFlightReplay() {
+
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        when(mockEngine.makeRequestWithBody(
+                eq(HttpMethod.POST),
+                eq("/api/v1/content/message"),
+                any(HttpHeaders.class),
+                any(MessageLogContentEntity.class),
+                eq(MessageLogContentEntity.class)
+        )).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            Thread.sleep(Duration.ofMinutes(1).toMillis());
+            return Either.right(invocation.getArgument(3));
+        });
+
+        MessageLogSpool spool = newSpool(MessageLogSpoolConfig.builder());
+        spool.append(message(0));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> requestStarted.await());
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), spool::close);
+        assertThat(callback.succeeded).isEmpty();
+    }
+
+    private static final class RecordingCallback implements MessageLogBatchCallback {
+
+        private final List<MessageLogContentEntity> succeeded = new CopyOnWriteArrayList<>();
+        private final List<MessageLogContentEntity> failed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onSuccess(@NotNull MessageLogContentEntity message) {
+            succeeded.add(message);
+        }
+
+        @Override
+        public void onFailure(@NotNull MessageLogContentEntity message, @NotNull ErrorEntity error) {
+            failed.add(message);
+        }
+
+        private List<String> succeededIds() {
+            return succeeded.stream().map(MessageLogContentEntity::getMessageId).collect(Collectors.toList());
+        }
+    }
+}